@@ -0,0 +1,106 @@
+package io.github.lcaohoanq;
+
+import io.github.lcaohoanq.execution.ExecutionBackend;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * HttpClient settings for the two kinds of endpoints the launcher talks to.
+ *
+ * Endpoints on this machine get a dedicated client that never goes through a
+ * proxy, so a corporate proxy configured for the JVM cannot slow down or
+ * break a loopback health check. It speaks HTTP/1.1 only, skipping the HTTP/2
+ * upgrade attempt, and keeps its connections alive between polls. Remote
+ * endpoints use {@link #REMOTE}, or any client built from
+ * {@link #remoteBuilder()}.
+ *
+ * Both shared clients are built on first use and dropped once idle, see
+ * {@link SharedHttpClient}.
+ *
+ * The loopback connection pool is left at the JDK default on purpose. Its
+ * size and keep-alive are set through {@code jdk.httpclient.connectionPoolSize}
+ * and {@code jdk.httpclient.keepalive.timeout}, which are JVM-wide and read
+ * once, so setting them here would change every HttpClient of the
+ * application. Polls of one endpoint are sequential, so the pool holds at
+ * most one idle connection per local endpoint anyway, and it goes with the
+ * client once that is dropped.
+ */
+public final class HttpClientProfiles {
+
+    /**
+     * How long the shared clients outlive their last request, so that
+     * back-to-back checks outside a launch reuse one client.
+     */
+    public static final Duration IDLE_TIMEOUT = Duration.ofSeconds(2);
+
+    /**
+     * Client for loopback endpoints: no proxy, HTTP/1.1 keep-alive.
+     */
+    public static final SharedHttpClient LOOPBACK =
+        new SharedHttpClient(HttpClientProfiles::loopbackBuilder, IDLE_TIMEOUT);
+
+    /**
+     * Client for any other endpoint.
+     */
+    public static final SharedHttpClient REMOTE = new SharedHttpClient(HttpClientProfiles::remoteBuilder, IDLE_TIMEOUT);
+
+    private HttpClientProfiles() {
+    }
+
+    /**
+     * @return a builder with the loopback profile, to adjust before building
+     */
+    public static HttpClient.Builder loopbackBuilder() {
+        return HttpClient.newBuilder()
+            .proxy(HttpClient.Builder.NO_PROXY)
+            .version(HttpClient.Version.HTTP_1_1)
+            // A local port either accepts or refuses at once
+            .connectTimeout(Duration.ofSeconds(1))
+            .executor(ExecutionBackend.executor());
+    }
+
+    /**
+     * @return a builder with the settings of {@link #REMOTE}, for a remote
+     *     client with its own proxy, timeout or TLS configuration
+     */
+    public static HttpClient.Builder remoteBuilder() {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(ExecutionBackend.executor());
+    }
+
+    /**
+     * @param host a URI host, possibly a bracketed IPv6 literal
+     * @return true for {@code localhost} and loopback address literals; host
+     *     names are not resolved
+     */
+    public static boolean isLoopback(String host) {
+        if (host == null || host.isEmpty()) {
+            return false;
+        }
+        String bareHost = host.startsWith("[") && host.endsWith("]") ? host.substring(1, host.length() - 1) : host;
+        if (bareHost.toLowerCase(Locale.ROOT).equals("localhost")) {
+            return true;
+        }
+        if (!Character.isDigit(bareHost.charAt(0)) && !bareHost.contains(":")) {
+            return false;
+        }
+        try {
+            return InetAddress.getByName(bareHost).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param host the endpoint host
+     * @param remote the client to use for anything that is not loopback
+     * @return {@link #LOOPBACK} for a loopback host, otherwise the remote client
+     */
+    public static SharedHttpClient forHost(String host, SharedHttpClient remote) {
+        return isLoopback(host) ? LOOPBACK : remote;
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.lcaohoanq;
+
+import io.github.lcaohoanq.execution.ExecutionBackend;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An HttpClient that exists only while it is in use.
+ *
+ * The client is built on the first request and dropped once no request is in
+ * flight and nobody holds it with {@link #retain()}, optionally after an idle
+ * timeout so that a burst of one-off checks shares one client. A long-running
+ * application that launches the browser once at startup is thus left without
+ * the client's selector thread, connection pool and buffers. On Java 21 and
+ * later the dropped client is closed; on Java 17 its selector thread exits
+ * once the client has been garbage collected.
+ *
+ * Holding the client across a series of requests, such as the polls of one
+ * launch, keeps its connections alive between them.
+ */
+public final class SharedHttpClient {
+
+    private static final ScheduledThreadPoolExecutor IDLE_TIMER = createIdleTimer();
+
+    private final Supplier<HttpClient.Builder> builder;
+    private final long idleNanos;
+    private HttpClient client;
+    private int users;
+    // Bumped on every drop timer, so a stale timer leaves a reused client alone
+    private long idleGeneration;
+
+    /**
+     * @param builder supplies the settings of each client built
+     */
+    public SharedHttpClient(Supplier<HttpClient.Builder> builder) {
+        this(builder, Duration.ZERO);
+    }
+
+    /**
+     * @param builder supplies the settings of each client built
+     * @param idleTimeout how long an unused client is kept before it is dropped
+     */
+    public SharedHttpClient(Supplier<HttpClient.Builder> builder, Duration idleTimeout) {
+        this.builder = builder;
+        this.idleNanos = idleTimeout.toNanos();
+    }
+
+    private SharedHttpClient(HttpClient client) {
+        this.builder = null;
+        this.idleNanos = 0;
+        this.client = client;
+    }
+
+    /**
+     * @param client a client owned by the caller
+     * @return a shared client that always uses the given one and never closes it
+     */
+    public static SharedHttpClient of(HttpClient client) {
+        return new SharedHttpClient(client);
+    }
+
+    /**
+     * Keeps the client, once built, until the matching {@link #release()}.
+     */
+    public synchronized void retain() {
+        users++;
+    }
+
+    /**
+     * Ends a {@link #retain()}; the last user drops the client, at once or
+     * after the idle timeout.
+     */
+    public void release() {
+        HttpClient dropped;
+        synchronized (this) {
+            if (users == 0) {
+                throw new IllegalStateException("release() without retain()");
+            }
+            users--;
+            if (users > 0 || builder == null || client == null) {
+                return;
+            }
+            if (idleNanos > 0) {
+                long generation = ++idleGeneration;
+                IDLE_TIMER.schedule(() -> dropIfIdle(generation), idleNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            dropped = client;
+            client = null;
+        }
+        close(dropped);
+    }
+
+    private void dropIfIdle(long generation) {
+        HttpClient dropped;
+        synchronized (this) {
+            if (users > 0 || generation != idleGeneration) {
+                return;
+            }
+            dropped = client;
+            client = null;
+        }
+        close(dropped);
+    }
+
+    /**
+     * @return true while a client is built and not yet dropped
+     */
+    public synchronized boolean isOpen() {
+        return client != null;
+    }
+
+    /**
+     * Sends a request, building the client if needed.
+     * @param request the request
+     * @param responseBodyHandler the handler of the response body
+     * @param <T> the response body type
+     * @return the response
+     * @throws IOException if the exchange fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+        HttpClient httpClient = acquire();
+        try {
+            return httpClient.send(request, responseBodyHandler);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Sends a request asynchronously, building the client if needed; the
+     * client is held until the returned future completes.
+     * @param request the request
+     * @param responseBodyHandler the handler of the response body
+     * @param <T> the response body type
+     * @return the response future
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+        HttpResponse.BodyHandler<T> responseBodyHandler) {
+        HttpClient httpClient = acquire();
+        CompletableFuture<HttpResponse<T>> response;
+        try {
+            response = httpClient.sendAsync(request, responseBodyHandler);
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        return response.whenComplete((result, error) -> release());
+    }
+
+    /**
+     * @return the current client, or null if none is built; for tests
+     */
+    synchronized HttpClient current() {
+        return client;
+    }
+
+    private synchronized HttpClient acquire() {
+        users++;
+        if (client == null) {
+            client = builder.get().build();
+        }
+        return client;
+    }
+
+    private static ScheduledThreadPoolExecutor createIdleTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "browser-launcher-http-idle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // No resident thread once the clients are gone
+        timer.setKeepAliveTime(1, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        return timer;
+    }
+
+    private static void close(HttpClient client) {
+        // HttpClient is AutoCloseable from Java 21 on; close() waits for the
+        // selector thread, so it must not run on a thread the client calls back on
+        if (client instanceof AutoCloseable) {
+            ExecutionBackend.executor().execute(() -> {
+                try {
+                    ((AutoCloseable) client).close();
+                } catch (Exception e) {
+                    System.err.println("Failed to close HttpClient: " + e.getMessage());
+                }
+            });
+        }
+    }
+}
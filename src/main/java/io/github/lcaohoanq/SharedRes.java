@@ -1,13 +1,15 @@
 package io.github.lcaohoanq;
 
 import java.net.http.HttpClient;
-import java.time.Duration;
 
 public class SharedRes {
 
-    // Static HttpClient for reuse across multiple calls
-    public static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-        .connectTimeout(Duration.ofSeconds(5))
-        .build();
+    /**
+     * Built when this class is first loaded and kept for the life of the JVM.
+     * @deprecated the launcher no longer uses it; use {@link HttpClientProfiles#REMOTE},
+     *     which exists only while in use
+     */
+    @Deprecated
+    public static final HttpClient HTTP_CLIENT = HttpClientProfiles.remoteBuilder().build();
 
 }
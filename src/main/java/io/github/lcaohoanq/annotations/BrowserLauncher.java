@@ -25,12 +25,52 @@ public @interface BrowserLauncher {
      * @return array of URLs to open
      */
     String[] urls() default {};
+
+    /**
+     * Per-URL health check endpoints, by position in the URLs to open; each URL
+     * with an endpoint opens as soon as that endpoint is ready, and "" leaves a
+     * URL on the shared health check
+     * @return the health check URL of each URL to open
+     */
+    String[] urlHealthCheckEndpoints() default {};
     
     /**
      * Health check endpoint to verify before opening browser
      * @return the health check URL
      */
     String healthCheckEndpoint() default "";
+
+    /**
+     * Further health check endpoints, probed in parallel with healthCheckEndpoint
+     * @return the additional health check URLs
+     */
+    String[] healthCheckEndpoints() default {};
+
+    /**
+     * How many of the health check endpoints must be healthy
+     * @return the gating policy
+     */
+    HealthGate healthGate() default HealthGate.ALL;
+
+    /**
+     * Healthy endpoints required when healthGate is QUORUM; 0 means a majority
+     * @return the quorum size
+     */
+    int healthCheckQuorum() default 0;
+
+    /**
+     * Readiness graph: each node is probed once its prerequisites are ready,
+     * and opens its own URLs as soon as it is ready itself
+     * @return the readiness nodes
+     */
+    ReadinessNode[] readiness() default {};
+
+    /**
+     * How long to keep polling the health check endpoint, with exponential
+     * backoff and jitter, before giving up. 0 probes exactly once.
+     * @return the polling deadline in seconds
+     */
+    int healthCheckDeadlineSeconds() default 0;
     
     /**
      * Spring profiles where browser should NOT open
@@ -43,5 +83,18 @@ public @interface BrowserLauncher {
      * @return true for async operation
      */
     boolean async() default false;
+
+    /**
+     * How long startup may wait for a synchronous launch to finish. The launch
+     * always runs in order on a background thread; 0 lets startup continue at once.
+     * @return the maximum wait in seconds
+     */
+    int startupWaitSeconds() default 0;
+
+    /**
+     * When to open the browser
+     * @return the launch trigger
+     */
+    LaunchTrigger trigger() default LaunchTrigger.APPLICATION_RUNNER;
 }
 
@@ -0,0 +1,22 @@
+package io.github.lcaohoanq.annotations;
+
+/**
+ * How many health check endpoints must be healthy before the browser opens.
+ */
+public enum HealthGate {
+
+    /**
+     * Every endpoint must be healthy.
+     */
+    ALL,
+
+    /**
+     * One healthy endpoint is enough.
+     */
+    ANY,
+
+    /**
+     * At least {@link BrowserLauncher#healthCheckQuorum()} endpoints, or a majority if it is 0, must be healthy.
+     */
+    QUORUM
+}
@@ -0,0 +1,21 @@
+package io.github.lcaohoanq.annotations;
+
+/**
+ * When the browser launcher opens its URLs.
+ */
+public enum LaunchTrigger {
+
+    /**
+     * Open from the {@code ApplicationRunner} phase, after the optional
+     * {@code healthCheckEndpoint} probe.
+     */
+    APPLICATION_RUNNER,
+
+    /**
+     * Open as soon as the embedded web server is initialized or the application
+     * reports {@code ReadinessState.ACCEPTING_TRAFFIC}, whichever comes first.
+     * The application's own health check endpoints are not probed; readiness
+     * nodes and per-URL endpoints still are, and their URLs open once healthy.
+     */
+    READINESS
+}
@@ -0,0 +1,36 @@
+package io.github.lcaohoanq.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * One node of a readiness graph declared in {@link BrowserLauncher#readiness()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface ReadinessNode {
+    /**
+     * Name other nodes use to depend on this one
+     * @return the node name
+     */
+    String name();
+
+    /**
+     * Health check endpoint of this node
+     * @return the health check URL
+     */
+    String endpoint();
+
+    /**
+     * Nodes that must be ready before this one is probed
+     * @return the prerequisite node names
+     */
+    String[] dependsOn() default {};
+
+    /**
+     * URLs to open as soon as this node and all its prerequisites are ready
+     * @return the URLs to open
+     */
+    String[] urls() default {};
+}
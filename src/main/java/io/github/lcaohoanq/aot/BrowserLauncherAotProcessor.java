@@ -0,0 +1,47 @@
+package io.github.lcaohoanq.aot;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.processor.LaunchPlan;
+import io.github.lcaohoanq.processor.MainClassResolver;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * Resolves the {@link LaunchPlan} during Spring AOT processing.
+ *
+ * The plan is written as a generated resource at {@link LaunchPlan#DESCRIPTOR_LOCATION},
+ * so native images and AOT-optimized JVM runs load it without {@code Class.forName}
+ * or annotation lookups. If the build-time annotation processor has already
+ * produced a descriptor for the main class, nothing is contributed;
+ * {@link BrowserLauncherRuntimeHints} keeps that resource in the image.
+ */
+public class BrowserLauncherAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        // Only bean definitions are meaningful here; a stack walk would find the AOT tool's main
+        Class<?> mainClass = new MainClassResolver(beanFactory, null).resolveFromBeanDefinitions();
+        if (mainClass == null) {
+            return null;
+        }
+
+        // The annotation processor already wrote this application's descriptor; dependencies may carry their own
+        if (LaunchPlan.loadDescriptor(beanFactory.getBeanClassLoader(), mainClass.getName()) != null) {
+            return null;
+        }
+
+        BrowserLauncher annotation = AnnotationUtils.findAnnotation(mainClass, BrowserLauncher.class);
+        if (annotation == null) {
+            return null;
+        }
+        LaunchPlan plan = LaunchPlan.fromAnnotation(mainClass.getName(), annotation);
+
+        return (generationContext, code) -> {
+            generationContext.getGeneratedFiles()
+                .addResourceFile(LaunchPlan.DESCRIPTOR_LOCATION, plan.toDescriptor());
+            generationContext.getRuntimeHints().resources().registerPattern(LaunchPlan.DESCRIPTOR_LOCATION);
+        };
+    }
+}
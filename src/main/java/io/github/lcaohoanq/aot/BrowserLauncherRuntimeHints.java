@@ -0,0 +1,35 @@
+package io.github.lcaohoanq.aot;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategy;
+import io.github.lcaohoanq.processor.LaunchPlan;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for the browser launcher.
+ *
+ * The launch descriptor must be kept as a resource so a native binary can
+ * read its plan without reflection. The annotation itself stays reachable for
+ * applications that run the reflective fallback, and the launch strategies
+ * are listed for ServiceLoader. {@code browser-launcher.readiness.*} is bound
+ * into a JavaBean at runtime, which needs its constructor and accessors.
+ */
+public class BrowserLauncherRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Nested in a package-private class, so referenced by name
+    static final String READINESS_NODE_PROPERTIES =
+        "io.github.lcaohoanq.processor.ReadinessProperties$NodeProperties";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(LaunchPlan.DESCRIPTOR_LOCATION);
+        hints.reflection().registerType(BrowserLauncher.class);
+        hints.resources().registerPattern("META-INF/services/" + LaunchStrategy.class.getName());
+        hints.reflection().registerType(TypeReference.of(READINESS_NODE_PROPERTIES),
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+            MemberCategory.DECLARED_FIELDS);
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.lcaohoanq.apt;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.LaunchTrigger;
+import io.github.lcaohoanq.health.ReadinessGraph;
+import io.github.lcaohoanq.processor.LaunchPlan;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Build-time processor for {@link BrowserLauncher}.
+ *
+ * Validates the configured URLs and writes the resolved {@link LaunchPlan} to
+ * {@link LaunchPlan#DESCRIPTOR_LOCATION}, so the runtime processor can skip
+ * main-class discovery and reflection entirely.
+ */
+@SupportedAnnotationTypes("io.github.lcaohoanq.annotations.BrowserLauncher")
+public class BrowserLauncherAnnotationProcessor extends AbstractProcessor {
+
+    private boolean descriptorWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(BrowserLauncher.class)) {
+            if (!(element instanceof TypeElement)) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            BrowserLauncher annotation = type.getAnnotation(BrowserLauncher.class);
+            LaunchPlan plan;
+            try {
+                plan = LaunchPlan.fromAnnotation(
+                    processingEnv.getElementUtils().getBinaryName(type).toString(), annotation);
+            } catch (IllegalArgumentException e) {
+                error(e.getMessage(), type);
+                continue;
+            }
+
+            if (!validate(plan, annotation, type)) {
+                continue;
+            }
+
+            if (descriptorWritten) {
+                warn("Only one @BrowserLauncher class is used per module; ignoring " + plan.getMainClassName(), type);
+                continue;
+            }
+            writeDescriptor(plan, type);
+        }
+        return false;
+    }
+
+    private boolean validate(LaunchPlan plan, BrowserLauncher annotation, Element element) {
+        boolean valid = true;
+
+        if (plan.getUrls().isEmpty() && plan.getReadinessUrls().isEmpty()) {
+            error("No URLs specified in @BrowserLauncher annotation", element);
+            valid = false;
+        }
+        List<String> urls = new ArrayList<>(plan.getUrls());
+        urls.addAll(plan.getReadinessUrls());
+        for (String url : urls) {
+            String problem = checkUrl(url);
+            if (problem != null) {
+                error("Invalid @BrowserLauncher URL '" + url + "': " + problem, element);
+                valid = false;
+            }
+        }
+
+        // Positions in urlHealthCheckEndpoints refer to the URLs as declared, duplicates included
+        List<String> declaredUrls = declaredUrls(annotation);
+        String[] urlEndpoints = annotation.urlHealthCheckEndpoints();
+        if (urlEndpoints.length > declaredUrls.size()) {
+            error("urlHealthCheckEndpoints has " + urlEndpoints.length
+                + " entries but only " + declaredUrls.size() + " URL(s) are opened", element);
+            valid = false;
+        }
+        Map<String, String> endpointByUrl = new HashMap<>();
+        for (int i = 0; i < declaredUrls.size(); i++) {
+            String url = declaredUrls.get(i);
+            String urlEndpoint = i < urlEndpoints.length ? urlEndpoints[i] : "";
+            if (!endpointByUrl.containsKey(url)) {
+                endpointByUrl.put(url, urlEndpoint);
+                continue;
+            }
+            String first = endpointByUrl.get(url);
+            if (!first.isEmpty() && !urlEndpoint.isEmpty() && !first.equals(urlEndpoint)) {
+                error("URL '" + url + "' is listed more than once with different urlHealthCheckEndpoints", element);
+                valid = false;
+            } else {
+                warn("URL '" + url + "' is listed more than once; it is opened once", element);
+                if (first.isEmpty()) {
+                    endpointByUrl.put(url, urlEndpoint);
+                }
+            }
+        }
+
+        if (plan.getHealthCheckDeadlineSeconds() < 0) {
+            error("healthCheckDeadlineSeconds must not be negative", element);
+            valid = false;
+        }
+        if (plan.getStartupWaitSeconds() < 0) {
+            error("startupWaitSeconds must not be negative", element);
+            valid = false;
+        }
+
+        for (String healthCheckEndpoint : plan.getHealthCheckEndpoints()) {
+            String problem = checkUrl(healthCheckEndpoint);
+            if (problem == null && !isHttp(healthCheckEndpoint)) {
+                problem = "health checks require an http or https URL";
+            }
+            if (problem != null) {
+                error("Invalid healthCheckEndpoint '" + healthCheckEndpoint + "': " + problem, element);
+                valid = false;
+            }
+        }
+        if (!plan.getHealthCheckEndpoints().isEmpty() && plan.getTrigger() == LaunchTrigger.READINESS) {
+            warn("healthCheckEndpoint is not probed when trigger = READINESS", element);
+        }
+
+        try {
+            new ReadinessGraph(plan.getReadinessNodes());
+        } catch (IllegalArgumentException e) {
+            error(e.getMessage(), element);
+            valid = false;
+        }
+        for (ReadinessGraph.Node node : plan.getReadinessNodes()) {
+            String problem = node.getEndpoint().isEmpty() ? null : checkUrl(node.getEndpoint());
+            if (problem == null && !node.getEndpoint().isEmpty() && !isHttp(node.getEndpoint())) {
+                problem = "health checks require an http or https URL";
+            }
+            if (problem != null) {
+                error("Invalid endpoint '" + node.getEndpoint() + "' of readiness node '" + node.getName() + "': "
+                    + problem, element);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    // Same precedence as LaunchPlan.fromAnnotation: value() > url() > urls()
+    private static List<String> declaredUrls(BrowserLauncher annotation) {
+        if (!annotation.value().isEmpty()) {
+            return List.of(annotation.value());
+        }
+        if (!annotation.url().isEmpty()) {
+            return List.of(annotation.url());
+        }
+        return Arrays.asList(annotation.urls());
+    }
+
+    /**
+     * @return a description of what is wrong with the URL, or null if it is valid
+     */
+    static String checkUrl(String url) {
+        if (url.isBlank()) {
+            return "URL is blank";
+        }
+        try {
+            URI uri = new URI(url);
+            // "localhost:8080/index.html" parses as an opaque URI with scheme "localhost"
+            if (uri.getScheme() == null || uri.isOpaque()) {
+                return "URL must be absolute, e.g. http://localhost:8080";
+            }
+            if (isHttp(url) && uri.getHost() == null) {
+                return "URL has no host";
+            }
+            return null;
+        } catch (URISyntaxException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static boolean isHttp(String url) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://");
+    }
+
+    private void writeDescriptor(LaunchPlan plan, Element element) {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", LaunchPlan.DESCRIPTOR_LOCATION, element);
+            try (OutputStream out = resource.openOutputStream()) {
+                out.write(plan.toDescriptorBytes());
+            }
+            descriptorWritten = true;
+        } catch (IOException e) {
+            error("Could not write " + LaunchPlan.DESCRIPTOR_LOCATION + ": " + e.getMessage(), element);
+        }
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warn(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+}
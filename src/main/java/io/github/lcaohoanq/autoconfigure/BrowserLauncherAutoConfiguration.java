@@ -1,17 +1,21 @@
 package io.github.lcaohoanq.autoconfigure;
 
+import io.github.lcaohoanq.aot.BrowserLauncherRuntimeHints;
 import io.github.lcaohoanq.processor.BrowserLauncherProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Auto-configuration for Browser Launcher library.
  * This ensures the BrowserLauncherProcessor is automatically registered
  * when the library is on the classpath.
+ * Bean methods are not proxied, so no CGLIB subclass is needed under native-image.
  */
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @ConditionalOnClass(BrowserLauncherProcessor.class)
+@ImportRuntimeHints(BrowserLauncherRuntimeHints.class)
 public class BrowserLauncherAutoConfiguration {
 
     @Bean
@@ -1,30 +1,33 @@
 package io.github.lcaohoanq.core
 
-import io.github.lcaohoanq.SharedRes
-import java.awt.Desktop
+import io.github.lcaohoanq.HttpClientProfiles
+import io.github.lcaohoanq.health.AdaptiveTimeout
+import io.github.lcaohoanq.launch.LaunchStrategies
+import io.github.lcaohoanq.launch.LaunchStrategy
 import java.net.URI
 import java.net.http.HttpRequest
 import java.net.http.HttpResponse
+import java.net.http.HttpTimeoutException
 import java.time.Duration
-import java.util.Locale
 
 /**
  * Utility object for launching web browsers across different platforms.
  *
- * This implementation detects the operating system and uses the appropriate
- * method to open URLs in the default web browser using secure process handling.
+ * URLs are opened with the [LaunchStrategy] probed once per JVM, such as the
+ * Desktop API or the platform's command, using secure process handling.
  */
 object BrowserLauncher {
 
     /**
      * Opens one or more URLs in the system's default web browser.
      *
-     * This method attempts to use Java's Desktop API if supported by the platform.
-     * If Desktop API is not available, it falls back to platform-specific commands
-     * using ProcessBuilder for secure process creation.
+     * The first call probes the [LaunchStrategy] implementations found by
+     * [java.util.ServiceLoader] - a configured command, `$BROWSER`, the Desktop
+     * API, then platform commands such as `xdg-open` - and keeps the first one
+     * available for every later call; [reprobe] starts over.
      *
-     * The implementation properly handles URLs that might contain spaces or special
-     * characters by using ProcessBuilder instead of string concatenation.
+     * Commands run through ProcessBuilder with the URL as a separate argument,
+     * so URLs that contain spaces or special characters are passed verbatim.
      *
      * @param urls The URL(s) to open. Can be either a single String URL or a List of String URLs.
      * @throws IllegalArgumentException if the provided argument is neither a String nor a List<String>.
@@ -48,36 +51,25 @@ object BrowserLauncher {
         }
 
         try {
-            val desktop = if (Desktop.isDesktopSupported()) Desktop.getDesktop() else null
-            val os = System.getProperty("os.name").lowercase(Locale.getDefault())
-
-            for (url in urlList) {
-                if (desktop != null && desktop.isSupported(Desktop.Action.BROWSE)) {
-                    desktop.browse(URI.create(url))
-                } else {
-                    when {
-                        os.contains("win") -> {
-                            // Using ProcessBuilder instead of Runtime.exec(String) for secure execution
-                            ProcessBuilder("rundll32", "url.dll,FileProtocolHandler", url)
-                                .start()
-                        }
-                        os.contains("mac") -> {
-                            ProcessBuilder("open", url)
-                                .start()
-                        }
-                        os.contains("nix") || os.contains("nux") -> {
-                            ProcessBuilder("xdg-open", url)
-                                .start()
-                        }
-                        else -> println("Unsupported operating system: $os")
-                    }
-                }
+            val strategy = LaunchStrategies.get()
+            if (strategy == null) {
+                println("Unsupported operating system: ${System.getProperty("os.name")}")
+                return
             }
+            strategy.open(urlList)
         } catch (e: Exception) {
             e.printStackTrace()
         }
     }
 
+    /**
+     * Forgets the launch strategy chosen so far; the next launch probes again.
+     */
+    @JvmStatic
+    fun reprobe() {
+        LaunchStrategies.reprobe()
+    }
+
     @JvmStatic
     fun doHealthCheckThenOpenHomePage(healthCheckEndpoint: String?, urls: Any) {
         try {
@@ -91,13 +83,27 @@ object BrowserLauncher {
             val hostname = System.getProperty("server.hostname") ?: "localhost"
             val port = System.getProperty("server.port")?.toIntOrNull() ?: 8080
 
+            val endpoint = healthCheckEndpoint ?: "http://$hostname:$port/actuator/health"
+            // Shares the latency history of the Java health checker
+            val timeouts = AdaptiveTimeout.getDefault()
+            val timeout = timeouts.timeoutFor(endpoint)
             val request = HttpRequest.newBuilder()
-                .uri(URI.create(healthCheckEndpoint ?: "http://$hostname:$port/actuator/health"))                .timeout(
-                    Duration.ofSeconds(5))
+                .uri(URI.create(endpoint))
+                .timeout(timeout)
                 .GET()
                 .build()
 
-            val response = SharedRes.HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString())
+            // Only the status code matters, so the body is discarded rather than buffered
+            val startNanos = System.nanoTime()
+            val response = try {
+                // Loopback endpoints bypass any configured proxy
+                HttpClientProfiles.forHost(request.uri().host, HttpClientProfiles.REMOTE)
+                    .send(request, HttpResponse.BodyHandlers.discarding())
+            } catch (e: HttpTimeoutException) {
+                timeouts.recordTimeout(endpoint, timeout)
+                throw e
+            }
+            timeouts.record(endpoint, Duration.ofNanos(System.nanoTime() - startNanos))
 
             if (response.statusCode() == 200) {
                 println("Health check passed. Opening home page...")
@@ -1,11 +1,14 @@
 package io.github.lcaohoanq.core;
 
-import static io.github.lcaohoanq.SharedRes.HTTP_CLIENT;
-
-import java.net.URI;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
+import io.github.lcaohoanq.execution.ExecutionBackend;
+import io.github.lcaohoanq.health.CircuitOpenException;
+import io.github.lcaohoanq.health.HealthCheckResult;
+import io.github.lcaohoanq.health.HealthChecker;
+import io.github.lcaohoanq.health.HealthGateResult;
+import io.github.lcaohoanq.health.ReadinessGraph;
+import io.github.lcaohoanq.health.RetryPolicy;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class JavaBrowserLauncher {
@@ -18,12 +21,46 @@ public class JavaBrowserLauncher {
         BrowserLauncher.openHomePage(urls);
     }
 
+    /**
+     * Opens the URLs on a task of the {@link ExecutionBackend}. A list is
+     * handed to the launch strategy whole, so a browser that takes several
+     * URLs is started only once.
+     * @param urls Either a String or a List<String>
+     * @return CompletableFuture completing once the launch has returned
+     */
+    public static CompletableFuture<Void> openHomePageAsync(Object urls) {
+        return CompletableFuture.runAsync(() -> openHomePage(urls), ExecutionBackend.executor());
+    }
+
     /**
      * Performs a health check before opening the homepage.
+     * Concurrent checks of the same endpoint share a single request.
      * @param healthCheckEndpoint The endpoint to check
      * @param urls The URL(s) to open after successful health check
      */
     public static void doHealthCheckThenOpenHomePage(String healthCheckEndpoint, Object urls) {
+        doHealthCheckThenOpenHomePage(healthCheckEndpoint, urls, RetryPolicy.none());
+    }
+
+    /**
+     * Polls the health endpoint until it is healthy, then opens the homepage.
+     * @param healthCheckEndpoint The endpoint to check
+     * @param urls The URL(s) to open after successful health check
+     * @param retryPolicy The backoff and overall deadline for polling
+     */
+    public static void doHealthCheckThenOpenHomePage(String healthCheckEndpoint, Object urls, RetryPolicy retryPolicy) {
+        doHealthCheckThenOpenHomePage(HealthChecker.getDefault(), healthCheckEndpoint, urls, retryPolicy);
+    }
+
+    /**
+     * Polls the health endpoint with the given checker, then opens the homepage.
+     * @param healthChecker The checker that evaluates the endpoint
+     * @param healthCheckEndpoint The endpoint to check
+     * @param urls The URL(s) to open after successful health check
+     * @param retryPolicy The backoff and overall deadline for polling
+     */
+    public static void doHealthCheckThenOpenHomePage(HealthChecker healthChecker, String healthCheckEndpoint,
+        Object urls, RetryPolicy retryPolicy) {
         // Direct delegation if no health check needed
         if (healthCheckEndpoint == null || healthCheckEndpoint.isEmpty()) {
             System.out.println("Health check endpoint is null or empty. Skipping health check.");
@@ -31,61 +68,155 @@ public class JavaBrowserLauncher {
             return;
         }
 
-        try {
-            // Build and execute the request
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(healthCheckEndpoint))
-                .timeout(Duration.ofSeconds(5))
-                .GET()
-                .build();
-
-            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Process the response
-            if (response.statusCode() == 200) {
-                System.out.println("Health check passed. Opening home page...");
-                openHomePage(urls);
-            } else {
-                System.out.println("Health check failed with status code: " + response.statusCode());
-            }
-        } catch (Exception e) {
-            System.err.println("Health check failed with exception: " + e.getMessage());
-            e.printStackTrace();
+        if (reportHealth(healthChecker.poll(healthCheckEndpoint, retryPolicy))) {
+            openHomePage(urls);
         }
     }
 
     /**
      * Asynchronous version of health check and homepage opening.
+     * Concurrent checks of the same endpoint share a single request.
      * @param healthCheckEndpoint The endpoint to check
      * @param urls The URL(s) to open after successful health check
      * @return CompletableFuture representing the async operation
      */
     public static CompletableFuture<Void> doHealthCheckThenOpenHomePageAsync(String healthCheckEndpoint, Object urls) {
+        return doHealthCheckThenOpenHomePageAsync(healthCheckEndpoint, urls, RetryPolicy.none());
+    }
+
+    /**
+     * Asynchronous version of polling health check and homepage opening.
+     * Retries are scheduled, so no thread sleeps between attempts, and the
+     * URLs are opened on the {@link ExecutionBackend}.
+     * @param healthCheckEndpoint The endpoint to check
+     * @param urls The URL(s) to open after successful health check
+     * @param retryPolicy The backoff and overall deadline for polling
+     * @return CompletableFuture representing the async operation
+     */
+    public static CompletableFuture<Void> doHealthCheckThenOpenHomePageAsync(String healthCheckEndpoint, Object urls,
+        RetryPolicy retryPolicy) {
+        return doHealthCheckThenOpenHomePageAsync(HealthChecker.getDefault(), healthCheckEndpoint, urls, retryPolicy);
+    }
+
+    /**
+     * Asynchronous version of polling with the given checker, then opening the homepage.
+     * @param healthChecker The checker that evaluates the endpoint
+     * @param healthCheckEndpoint The endpoint to check
+     * @param urls The URL(s) to open after successful health check
+     * @param retryPolicy The backoff and overall deadline for polling
+     * @return CompletableFuture representing the async operation
+     */
+    public static CompletableFuture<Void> doHealthCheckThenOpenHomePageAsync(HealthChecker healthChecker,
+        String healthCheckEndpoint, Object urls, RetryPolicy retryPolicy) {
         if (healthCheckEndpoint == null || healthCheckEndpoint.isEmpty()) {
             System.out.println("Health check endpoint is null or empty. Skipping health check.");
             openHomePage(urls);
             return CompletableFuture.completedFuture(null);
         }
 
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(healthCheckEndpoint))
-            .timeout(Duration.ofSeconds(5))
-            .GET()
-            .build();
-
-        return HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-            .thenAccept(response -> {
-                if (response.statusCode() == 200) {
-                    System.out.println("Health check passed. Opening home page...");
-                    openHomePage(urls);
-                } else {
-                    System.out.println("Health check failed with status code: " + response.statusCode());
-                }
-            })
-            .exceptionally(e -> {
-                System.err.println("Health check failed with exception: " + e.getMessage());
-                e.printStackTrace();
-                return null;
-            });
+        return openHomePageWhenHealthy(healthChecker.pollAsync(healthCheckEndpoint, retryPolicy), urls);
+    }
+
+    /**
+     * Polls a readiness graph and opens the URLs of each node as soon as that
+     * node and everything it depends on is healthy, without waiting for
+     * unrelated branches.
+     * @param healthChecker The checker that evaluates the endpoints
+     * @param readinessGraph The nodes, their prerequisites and their URLs
+     * @param retryPolicy The backoff and deadline applied to each node
+     * @return CompletableFuture completing once every node has been settled
+     */
+    public static CompletableFuture<Void> doReadinessGraphThenOpenHomePagesAsync(HealthChecker healthChecker,
+        ReadinessGraph readinessGraph, RetryPolicy retryPolicy) {
+        Map<String, CompletableFuture<HealthCheckResult>> readiness =
+            readinessGraph.startAsync(healthChecker, retryPolicy);
+        CompletableFuture<?>[] launches = readinessGraph.getNodes().stream()
+            .filter(node -> !node.getUrls().isEmpty())
+            .map(node -> openHomePageWhenHealthy(readiness.get(node.getName()), node.getUrls()))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(launches);
+    }
+
+    private static CompletableFuture<Void> openHomePageWhenHealthy(CompletableFuture<HealthCheckResult> health,
+        Object urls) {
+        return health.thenCompose(result -> reportHealth(result)
+            ? openHomePageAsync(urls)
+            : CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Polls several health endpoints in parallel and opens the homepage once
+     * enough of them are healthy.
+     * @param healthChecker The checker that evaluates the endpoints
+     * @param healthCheckEndpoints The endpoints to check
+     * @param required How many endpoints must be healthy
+     * @param urls The URL(s) to open once the gate passes
+     * @param retryPolicy The backoff and deadline applied to each endpoint
+     */
+    public static void doHealthGateThenOpenHomePage(HealthChecker healthChecker, List<String> healthCheckEndpoints,
+        int required, Object urls, RetryPolicy retryPolicy) {
+        if (reportGate(healthChecker.pollGate(healthCheckEndpoints, required, retryPolicy))) {
+            openHomePage(urls);
+        }
+    }
+
+    /**
+     * Asynchronous version of multi-endpoint gating and homepage opening.
+     * @param healthChecker The checker that evaluates the endpoints
+     * @param healthCheckEndpoints The endpoints to check
+     * @param required How many endpoints must be healthy
+     * @param urls The URL(s) to open once the gate passes
+     * @param retryPolicy The backoff and deadline applied to each endpoint
+     * @return CompletableFuture representing the async operation
+     */
+    public static CompletableFuture<Void> doHealthGateThenOpenHomePageAsync(HealthChecker healthChecker,
+        List<String> healthCheckEndpoints, int required, Object urls, RetryPolicy retryPolicy) {
+        return healthChecker.pollGateAsync(healthCheckEndpoints, required, retryPolicy)
+            .thenCompose(result -> reportGate(result)
+                ? openHomePageAsync(urls)
+                : CompletableFuture.completedFuture(null));
+    }
+
+    private static boolean reportGate(HealthGateResult result) {
+        for (HealthCheckResult endpointResult : result.getResults()) {
+            if (endpointResult.isHealthy()) {
+                continue;
+            }
+            if (endpointResult.getError() != null) {
+                System.err.println("Health check of " + endpointResult.getEndpoint() + " failed with exception: "
+                    + endpointResult.getError().getMessage());
+            } else {
+                System.out.println("Health check of " + endpointResult.getEndpoint() + " failed with status code: "
+                    + endpointResult.getStatusCode());
+            }
+        }
+        if (result.isPassed()) {
+            System.out.println("Health gate passed (" + result.getHealthyCount() + " of " + result.getTotal()
+                + " healthy, " + result.getRequired() + " required). Opening home page...");
+            return true;
+        }
+        System.out.println("Health gate failed (" + result.getHealthyCount() + " of " + result.getTotal()
+            + " healthy, " + result.getRequired() + " required)");
+        return false;
+    }
+
+    private static boolean reportHealth(HealthCheckResult result) {
+        if (result.getAttempts() > 1) {
+            System.out.println("Health check finished after " + result.getAttempts() + " attempts in "
+                + result.getElapsed().toMillis() + " ms");
+        }
+        if (result.isHealthy()) {
+            System.out.println("Health check passed. Opening home page...");
+            return true;
+        } else if (result.getError() instanceof CircuitOpenException) {
+            // Expected while the endpoint is known to be down; no stack trace per call
+            System.out.println("Health check skipped: " + result.getError().getMessage());
+        } else if (result.getError() != null) {
+            System.err.println("Health check failed with exception: " + result.getError().getMessage());
+            result.getError().printStackTrace();
+        } else {
+            System.out.println("Health check failed with status code: " + result.getStatusCode());
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
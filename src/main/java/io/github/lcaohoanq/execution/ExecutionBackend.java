@@ -0,0 +1,48 @@
+package io.github.lcaohoanq.execution;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs health probes and browser launches.
+ *
+ * This is the Java 17 variant, backed by a cached pool of daemon platform
+ * threads. The multi-release jar carries a Java 21 variant under
+ * {@code META-INF/versions/21} that starts one virtual thread per task
+ * instead, so probes and launches can fan out without sizing a pool.
+ */
+public final class ExecutionBackend {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    private ExecutionBackend() {
+    }
+
+    /**
+     * @return the shared executor; it never needs shutting down
+     */
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * @return true if tasks run on virtual threads
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "browser-launcher-worker-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
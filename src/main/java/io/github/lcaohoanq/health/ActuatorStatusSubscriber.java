@@ -0,0 +1,168 @@
+package io.github.lcaohoanq.health;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Reads the top-level {@code "status"} field of a Spring Boot Actuator health
+ * response as the body streams in, without buffering it.
+ *
+ * The body completes as soon as the field is found or {@code maxBytes} have
+ * been read, with the status value, or null when the field was not found
+ * within the limit. The rest of the response is drained unread rather than
+ * cancelled, since cancelling an HTTP/2 stream fails the whole exchange.
+ */
+final class ActuatorStatusSubscriber implements HttpResponse.BodySubscriber<String> {
+
+    // Longer keys and values cannot be "status" or a known health status
+    private static final int MAX_TOKEN_BYTES = 32;
+
+    private enum State { KEY, STATUS_KEY, STATUS_VALUE, OTHER }
+
+    private final CompletableFuture<String> body = new CompletableFuture<>();
+    private final long maxBytes;
+    private final byte[] token = new byte[MAX_TOKEN_BYTES];
+
+    private Flow.Subscription subscription;
+    private long bytesRead;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int tokenLength;
+    private State state = State.OTHER;
+
+    ActuatorStatusSubscriber(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param maxBytes the most body bytes to read
+     * @return a handler that scans 200 responses and discards any other body
+     */
+    static HttpResponse.BodyHandler<String> handler(long maxBytes) {
+        return responseInfo -> responseInfo.statusCode() == 200
+            ? new ActuatorStatusSubscriber(maxBytes)
+            : HttpResponse.BodySubscribers.replacing(null);
+    }
+
+    @Override
+    public CompletionStage<String> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        for (ByteBuffer buffer : buffers) {
+            while (!body.isDone() && buffer.hasRemaining()) {
+                if (bytesRead++ >= maxBytes) {
+                    body.complete(null);
+                    break;
+                }
+                accept(buffer.get());
+            }
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        body.complete(null);
+    }
+
+    private void accept(byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+                appendToken(b);
+            } else if (b == '\\') {
+                escaped = true;
+                appendToken(b);
+            } else if (b == '"') {
+                inString = false;
+                endString();
+            } else {
+                appendToken(b);
+            }
+            return;
+        }
+
+        switch (b) {
+            case '"':
+                inString = true;
+                tokenLength = 0;
+                break;
+            case '{':
+            case '[':
+                depth++;
+                if (depth == 1) {
+                    state = b == '{' ? State.KEY : State.OTHER;
+                } else if (depth == 2 && state == State.STATUS_VALUE) {
+                    // A structured status is not the Actuator format
+                    state = State.OTHER;
+                }
+                break;
+            case '}':
+            case ']':
+                depth--;
+                if (depth <= 0) {
+                    // The top-level object ended without a status field
+                    body.complete(null);
+                }
+                break;
+            case ':':
+                if (depth == 1 && state == State.STATUS_KEY) {
+                    state = State.STATUS_VALUE;
+                }
+                break;
+            case ',':
+                if (depth == 1) {
+                    state = State.KEY;
+                }
+                break;
+            case ' ':
+            case '\t':
+            case '\r':
+            case '\n':
+                break;
+            default:
+                // A number or literal: not a status string
+                if (depth == 1) {
+                    state = State.OTHER;
+                }
+        }
+    }
+
+    private void endString() {
+        if (depth != 1) {
+            return;
+        }
+        String value = new String(token, 0, tokenLength, StandardCharsets.UTF_8);
+        if (state == State.STATUS_VALUE) {
+            body.complete(value);
+        } else if (state == State.KEY) {
+            state = "status".equals(value) ? State.STATUS_KEY : State.OTHER;
+        }
+    }
+
+    private void appendToken(byte b) {
+        if (tokenLength < MAX_TOKEN_BYTES) {
+            token[tokenLength++] = b;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint request timeouts derived from the latencies observed so far.
+ *
+ * The timeout of an endpoint is its p99 latency plus a margin, kept within
+ * a minimum and a maximum; an endpoint with no history gets the initial
+ * timeout. A loopback service answering in a few milliseconds thus fails fast
+ * when it hangs, while a slow remote gateway is given the time it needs.
+ * Histograms live as long as the instance, which for {@link #getDefault()} is
+ * the life of the JVM.
+ */
+public final class AdaptiveTimeout {
+
+    private static final AdaptiveTimeout DEFAULT = new AdaptiveTimeout(
+        Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(30), Duration.ofMillis(250));
+
+    private final Duration initial;
+    private final Duration min;
+    private final Duration max;
+    private final Duration margin;
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * @param initial the timeout of an endpoint with no recorded latency
+     * @param min the lower bound of any derived timeout
+     * @param max the upper bound of any derived timeout
+     * @param margin added to the observed p99
+     */
+    public AdaptiveTimeout(Duration initial, Duration min, Duration max, Duration margin) {
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min " + min + " exceeds max " + max);
+        }
+        this.initial = initial;
+        this.min = min;
+        this.max = max;
+        this.margin = margin;
+    }
+
+    /**
+     * @return the timeouts shared by {@code JavaBrowserLauncher} and {@code BrowserLauncher}:
+     *     5 s initially, then p99 + 250 ms within [200 ms, 30 s]
+     */
+    public static AdaptiveTimeout getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return the timeout to apply to the next request to the endpoint
+     */
+    public Duration timeoutFor(String endpoint) {
+        LatencyHistogram histogram = histograms.get(endpoint);
+        if (histogram == null || histogram.getCount() == 0) {
+            return initial;
+        }
+        Duration derived = histogram.getPercentile(99).plus(margin);
+        if (derived.compareTo(min) < 0) {
+            return min;
+        }
+        return derived.compareTo(max) > 0 ? max : derived;
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @param latency how long the endpoint took to answer
+     */
+    public void record(String endpoint, Duration latency) {
+        histograms.computeIfAbsent(endpoint, key -> new LatencyHistogram()).record(latency);
+    }
+
+    /**
+     * A timed-out request says only that the real latency was longer, so it
+     * is recorded as twice the timeout; repeated timeouts widen the next one
+     * quickly, up to the maximum.
+     * @param endpoint the health endpoint URL
+     * @param timeout the timeout that expired
+     */
+    public void recordTimeout(String endpoint, Duration timeout) {
+        record(endpoint, timeout.multipliedBy(2));
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return the latencies recorded for the endpoint, or null if there are none
+     */
+    public LatencyHistogram getHistogram(String endpoint) {
+        return histograms.get(endpoint);
+    }
+}
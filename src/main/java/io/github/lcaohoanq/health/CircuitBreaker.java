@@ -0,0 +1,198 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-endpoint circuit breaker for health probes.
+ *
+ * A circuit is CLOSED while the endpoint answers. Once the failure rate over
+ * the last {@code windowSize} probes reaches the threshold, it opens, and
+ * probes fail at once with a {@link CircuitOpenException} instead of waiting
+ * for a connect timeout. After the open duration a single trial probe is let
+ * through (HALF_OPEN): success closes the circuit, failure opens it again.
+ *
+ * Only probes that got no HTTP response count as failures; an endpoint
+ * answering 503 is cheap to ask and is polled as usual.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The state of one endpoint's circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * @param windowSize how many recent probes the failure rate covers
+     * @param minimumCalls how many probes are needed before the circuit can open
+     * @param failureRateThreshold the failure rate, between 0 and 1, that opens the circuit
+     * @param openDuration how long the circuit stays open before a trial probe
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+        LongSupplier nanoTime) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException(
+                "minimumCalls must be within [1, windowSize]: " + minimumCalls + ", " + windowSize);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be within (0, 1]: " + failureRateThreshold);
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return true if a probe may go out now; in HALF_OPEN only the single trial may
+     */
+    public boolean tryAcquire(String endpoint) {
+        return circuit(endpoint).tryAcquire();
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @param result the outcome of a probe allowed by {@link #tryAcquire}
+     */
+    public void record(String endpoint, HealthCheckResult result) {
+        circuit(endpoint).record(result.getError() != null);
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return the state of the endpoint's circuit; CLOSED if it was never probed
+     */
+    public State getState(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        return circuit == null ? State.CLOSED : circuit.state();
+    }
+
+    /**
+     * @return the state of every probed endpoint, by endpoint
+     */
+    public Map<String, State> getStates() {
+        Map<String, State> states = new TreeMap<>();
+        circuits.forEach((endpoint, circuit) -> states.put(endpoint, circuit.state()));
+        return states;
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return the failure rate over the current window, 0 if there is no history
+     */
+    public double getFailureRate(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        return circuit == null ? 0 : circuit.failureRate();
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return how long until an open circuit lets a trial probe through, zero if not open
+     */
+    public Duration getRetryAfter(String endpoint) {
+        Circuit circuit = circuits.get(endpoint);
+        return circuit == null ? Duration.ZERO : circuit.retryAfter();
+    }
+
+    private Circuit circuit(String endpoint) {
+        return circuits.computeIfAbsent(endpoint, key -> new Circuit());
+    }
+
+    private final class Circuit {
+
+        private final boolean[] failed = new boolean[windowSize];
+        private int calls;
+        private int failures;
+        private int next;
+        private boolean open;
+        private long openedAtNanos;
+        private boolean trialInFlight;
+
+        synchronized boolean tryAcquire() {
+            switch (state()) {
+                case CLOSED:
+                    return true;
+                case HALF_OPEN:
+                    if (trialInFlight) {
+                        return false;
+                    }
+                    trialInFlight = true;
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        synchronized void record(boolean failure) {
+            if (open) {
+                trialInFlight = false;
+                if (failure) {
+                    openedAtNanos = nanoTime.getAsLong();
+                } else {
+                    reset();
+                }
+                return;
+            }
+
+            if (calls == windowSize && failed[next]) {
+                failures--;
+            }
+            failed[next] = failure;
+            next = (next + 1) % windowSize;
+            calls = Math.min(calls + 1, windowSize);
+            if (failure) {
+                failures++;
+            }
+            if (calls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                open = true;
+                openedAtNanos = nanoTime.getAsLong();
+            }
+        }
+
+        synchronized State state() {
+            if (!open) {
+                return State.CLOSED;
+            }
+            return nanoTime.getAsLong() - openedAtNanos >= openNanos ? State.HALF_OPEN : State.OPEN;
+        }
+
+        synchronized double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        synchronized Duration retryAfter() {
+            if (!open) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(Math.max(0, openNanos - (nanoTime.getAsLong() - openedAtNanos)));
+        }
+
+        private void reset() {
+            open = false;
+            calls = 0;
+            failures = 0;
+            next = 0;
+        }
+    }
+}
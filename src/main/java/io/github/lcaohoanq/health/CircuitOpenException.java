@@ -0,0 +1,27 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+
+/**
+ * Reported instead of probing an endpoint whose {@link CircuitBreaker} is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @param retryAfter how long until a trial probe is let through
+     */
+    public CircuitOpenException(String endpoint, Duration retryAfter) {
+        super("Circuit open for " + endpoint + ", next probe in " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long until a trial probe is let through
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
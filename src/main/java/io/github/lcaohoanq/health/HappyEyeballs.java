@@ -0,0 +1,247 @@
+package io.github.lcaohoanq.health;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RFC 8305 style connection racing for loopback health endpoints.
+ *
+ * {@code localhost} may resolve to {@code ::1} first while the server is
+ * bound to {@code 127.0.0.1} only, or the other way round. Instead of
+ * connecting to the first address and waiting for it to fail, the IPv6 and
+ * IPv4 loopback addresses are tried in interleaved order, each next attempt
+ * starting after a short delay or as soon as the previous one fails; the
+ * first connection wins. The winner is remembered per host and port, so later
+ * probes go straight to it.
+ */
+final class HappyEyeballs {
+
+    // RFC 8305 recommends at least 100 ms between attempts
+    private static final long CONNECTION_ATTEMPT_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final InetAddress IPV6_LOOPBACK = loopback(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
+    private static final InetAddress IPV4_LOOPBACK = loopback(new byte[] {127, 0, 0, 1});
+
+    private static final ConcurrentMap<String, InetAddress> WINNERS = new ConcurrentHashMap<>();
+
+    private HappyEyeballs() {
+    }
+
+    private static InetAddress loopback(byte[] address) {
+        try {
+            return InetAddress.getByAddress("localhost", address);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param host the host of an endpoint
+     * @param port the port of an endpoint
+     * @return the loopback addresses to race, in attempt order, or null if the
+     *     host is not {@code localhost}
+     */
+    static List<InetSocketAddress> candidatesFor(String host, int port) {
+        if (!"localhost".equals(host.toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        Set<InetAddress> resolved = new LinkedHashSet<>();
+        try {
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (address.isLoopbackAddress()) {
+                    resolved.add(address);
+                }
+            }
+        } catch (UnknownHostException e) {
+            // Fall back to the well-known loopback addresses
+        }
+        // Whatever the resolver says, the server may listen on either family
+        resolved.add(IPV6_LOOPBACK);
+        resolved.add(IPV4_LOOPBACK);
+
+        // Interleave families, starting with the one the resolver preferred
+        List<InetAddress> preferred = new ArrayList<>();
+        List<InetAddress> other = new ArrayList<>();
+        Class<?> first = resolved.iterator().next() instanceof Inet6Address ? Inet6Address.class : Inet4Address.class;
+        for (InetAddress address : resolved) {
+            (first.isInstance(address) ? preferred : other).add(address);
+        }
+        List<InetSocketAddress> candidates = new ArrayList<>();
+        for (int i = 0; i < Math.max(preferred.size(), other.size()); i++) {
+            if (i < preferred.size()) {
+                candidates.add(new InetSocketAddress(preferred.get(i), port));
+            }
+            if (i < other.size()) {
+                candidates.add(new InetSocketAddress(other.get(i), port));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Races connections to the candidates.
+     * @param candidates the addresses in attempt order
+     * @param timeoutNanos how long to wait for any connection
+     * @return the first address that accepted a connection, or null if none did in time
+     */
+    static InetSocketAddress connect(List<InetSocketAddress> candidates, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        List<SocketChannel> channels = new ArrayList<>();
+        try (Selector selector = Selector.open()) {
+            int next = 0;
+            int pending = 0;
+            long nextAttemptAt = System.nanoTime();
+            while (true) {
+                long now = System.nanoTime();
+                if (deadline - now <= 0) {
+                    return null;
+                }
+                if (next < candidates.size() && (pending == 0 || now - nextAttemptAt >= 0)) {
+                    InetSocketAddress candidate = candidates.get(next++);
+                    nextAttemptAt = now + CONNECTION_ATTEMPT_DELAY_NANOS;
+                    switch (startAttempt(candidate, selector, channels)) {
+                        case CONNECTED:
+                            return candidate;
+                        case PENDING:
+                            pending++;
+                            break;
+                        default:
+                            // A failed attempt frees the next one to start at once
+                            nextAttemptAt = now;
+                    }
+                    continue;
+                }
+                if (pending == 0) {
+                    // Every candidate failed
+                    return null;
+                }
+
+                long wakeAt = next < candidates.size() && nextAttemptAt - deadline < 0 ? nextAttemptAt : deadline;
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wakeAt - now)));
+                for (SelectionKey key : selector.selectedKeys()) {
+                    try {
+                        if (((SocketChannel) key.channel()).finishConnect()) {
+                            return (InetSocketAddress) key.attachment();
+                        }
+                    } catch (IOException e) {
+                        key.cancel();
+                        pending--;
+                        nextAttemptAt = System.nanoTime();
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException e) {
+            return null;
+        } finally {
+            for (SocketChannel channel : channels) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Nothing useful to do about a failed close
+                }
+            }
+        }
+    }
+
+    private enum Attempt {
+        CONNECTED,
+        PENDING,
+        FAILED
+    }
+
+    private static Attempt startAttempt(InetSocketAddress candidate, Selector selector, List<SocketChannel> channels) {
+        try {
+            SocketChannel channel = SocketChannel.open();
+            channels.add(channel);
+            channel.configureBlocking(false);
+            if (channel.connect(candidate)) {
+                return Attempt.CONNECTED;
+            }
+            channel.register(selector, SelectionKey.OP_CONNECT, candidate);
+            return Attempt.PENDING;
+        } catch (IOException e) {
+            // Refused outright or address family unsupported
+            return Attempt.FAILED;
+        }
+    }
+
+    /**
+     * @param host the endpoint host
+     * @param port the endpoint port
+     * @return the address that won the last race for this host and port, or null
+     */
+    static InetAddress winnerFor(String host, int port) {
+        return WINNERS.get(key(host, port));
+    }
+
+    static void remember(String host, int port, InetAddress winner) {
+        WINNERS.put(key(host, port), winner);
+    }
+
+    static void forget(String host, int port) {
+        WINNERS.remove(key(host, port));
+    }
+
+    static void forgetAll() {
+        WINNERS.clear();
+    }
+
+    /**
+     * Points a plain-HTTP URI at a concrete address. HTTPS keeps its host
+     * name, which certificate verification depends on.
+     * @param uri the endpoint URI
+     * @param address the address to connect to
+     * @return the URI with the host replaced by the address literal
+     */
+    static URI withAddress(URI uri, InetAddress address) {
+        if (!"http".equalsIgnoreCase(uri.getScheme())) {
+            return uri;
+        }
+        // Only the authority changes; the raw path, query and fragment keep their escapes
+        String host = address instanceof Inet6Address ? "[" + address.getHostAddress() + "]" : address.getHostAddress();
+        StringBuilder rebuilt = new StringBuilder(uri.getScheme()).append("://");
+        if (uri.getRawUserInfo() != null) {
+            rebuilt.append(uri.getRawUserInfo()).append('@');
+        }
+        rebuilt.append(host);
+        if (uri.getPort() != -1) {
+            rebuilt.append(':').append(uri.getPort());
+        }
+        if (uri.getRawPath() != null) {
+            rebuilt.append(uri.getRawPath());
+        }
+        if (uri.getRawQuery() != null) {
+            rebuilt.append('?').append(uri.getRawQuery());
+        }
+        if (uri.getRawFragment() != null) {
+            rebuilt.append('#').append(uri.getRawFragment());
+        }
+        try {
+            return new URI(rebuilt.toString());
+        } catch (URISyntaxException e) {
+            return uri;
+        }
+    }
+
+    private static String key(String host, int port) {
+        return host.toLowerCase(Locale.ROOT) + ":" + port;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a health check against one endpoint.
+ */
+public final class HealthCheckResult {
+
+    private final String endpoint;
+    private final int statusCode;
+    private final Throwable error;
+    private final int attempts;
+    private final Duration elapsed;
+    private final String bodyStatus;
+
+    private HealthCheckResult(String endpoint, int statusCode, Throwable error, int attempts, Duration elapsed,
+        String bodyStatus) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.error = error;
+        this.attempts = attempts;
+        this.elapsed = elapsed;
+        this.bodyStatus = bodyStatus;
+    }
+
+    /**
+     * @param endpoint the probed endpoint
+     * @param statusCode the HTTP status returned
+     * @return a result for a completed HTTP exchange
+     */
+    public static HealthCheckResult ofStatus(String endpoint, int statusCode) {
+        return new HealthCheckResult(endpoint, statusCode, null, 1, Duration.ZERO, null);
+    }
+
+    /**
+     * @param endpoint the probed endpoint
+     * @param error why the probe did not complete
+     * @return a result for a failed probe
+     */
+    public static HealthCheckResult ofError(String endpoint, Throwable error) {
+        return new HealthCheckResult(endpoint, -1, error, 1, Duration.ZERO, null);
+    }
+
+    /**
+     * @param attempts the number of probes made
+     * @param elapsed the time from the first probe to this result
+     * @return a copy carrying the given attempt count and elapsed time
+     */
+    public HealthCheckResult withAttempts(int attempts, Duration elapsed) {
+        return new HealthCheckResult(endpoint, statusCode, error, attempts, elapsed, bodyStatus);
+    }
+
+    /**
+     * @param bodyStatus the status read from the response body, or null if none was found
+     * @return a copy carrying the given body status
+     */
+    public HealthCheckResult withBodyStatus(String bodyStatus) {
+        return new HealthCheckResult(endpoint, statusCode, error, attempts, elapsed, bodyStatus);
+    }
+
+    /**
+     * @return true if the endpoint answered 200 and, when a body status was read, it is UP
+     */
+    public boolean isHealthy() {
+        return error == null && statusCode == 200 && (bodyStatus == null || "UP".equals(bodyStatus));
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the HTTP status, or -1 if no response was received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the failure cause, or null if a response was received
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return the Actuator status read from the body, or null if the body was not evaluated
+     */
+    public String getBodyStatus() {
+        return bodyStatus;
+    }
+
+    /**
+     * @return the number of probes made before this result
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return the time from the first probe to this result
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+}
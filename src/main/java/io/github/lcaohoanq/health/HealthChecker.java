@@ -0,0 +1,605 @@
+package io.github.lcaohoanq.health;
+
+import io.github.lcaohoanq.HttpClientProfiles;
+import io.github.lcaohoanq.SharedHttpClient;
+import io.github.lcaohoanq.execution.ExecutionBackend;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Probes health endpoints over HTTP.
+ *
+ * Concurrent checks of the same endpoint share one in-flight request, so
+ * several URLs gated on one endpoint, or several callers racing at startup,
+ * cost a single round trip. A checker with a {@link HealthResultCache} also
+ * reuses recent results across calls, and one with a {@link CircuitBreaker}
+ * stops probing endpoints that keep failing. Polling with a {@link RetryPolicy} runs on a
+ * scheduler rather than a sleeping thread, and waits for the endpoint's port
+ * to accept TCP connections before the first HTTP request.
+ *
+ * The default checker derives each request timeout from the endpoint's
+ * observed latencies through {@link AdaptiveTimeout}; a checker built with a
+ * fixed timeout uses that instead.
+ *
+ * By default only the status code is evaluated and the body is discarded
+ * unread. A checker built with a body limit also reads the Actuator
+ * {@code "status"} field, streaming at most that many bytes.
+ */
+public class HealthChecker {
+
+    private static final HealthChecker DEFAULT = new HealthChecker(HttpClientProfiles.REMOTE,
+        AdaptiveTimeout.getDefault()).withLoopbackClient(HttpClientProfiles.LOOPBACK);
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private final SharedHttpClient httpClient;
+    private final SharedHttpClient loopbackClient;
+    private final Duration requestTimeout;
+    private final AdaptiveTimeout adaptiveTimeout;
+    private final long maxStatusBodyBytes;
+    private final HealthProbe probe;
+    private final boolean awaitPort;
+    private final Map<String, HealthProbe> probeOverrides;
+    private final HealthResultCache cache;
+    private final CircuitBreaker circuitBreaker;
+    private final SingleFlight<String, HealthCheckResult> inFlight = new SingleFlight<>();
+
+    /**
+     * @param httpClient the client used for probes
+     * @param requestTimeout the timeout of each probe request
+     */
+    public HealthChecker(HttpClient httpClient, Duration requestTimeout) {
+        this(httpClient, requestTimeout, 0);
+    }
+
+    /**
+     * @param httpClient the client used for probes
+     * @param requestTimeout the timeout of each probe request
+     * @param maxStatusBodyBytes how much of a 200 body to scan for the Actuator
+     *     status; 0 evaluates the status code only
+     */
+    public HealthChecker(HttpClient httpClient, Duration requestTimeout, long maxStatusBodyBytes) {
+        this(SharedHttpClient.of(httpClient), requestTimeout, null, maxStatusBodyBytes);
+    }
+
+    /**
+     * @param httpClient the client used for probes
+     * @param adaptiveTimeout derives the timeout of each probe request and
+     *     records the latency it observes
+     */
+    public HealthChecker(HttpClient httpClient, AdaptiveTimeout adaptiveTimeout) {
+        this(httpClient, adaptiveTimeout, 0);
+    }
+
+    /**
+     * @param httpClient the client used for probes
+     * @param adaptiveTimeout derives the timeout of each probe request and
+     *     records the latency it observes
+     * @param maxStatusBodyBytes how much of a 200 body to scan for the Actuator
+     *     status; 0 evaluates the status code only
+     */
+    public HealthChecker(HttpClient httpClient, AdaptiveTimeout adaptiveTimeout, long maxStatusBodyBytes) {
+        this(SharedHttpClient.of(httpClient), null, adaptiveTimeout, maxStatusBodyBytes);
+    }
+
+    /**
+     * @param httpClient the client used for probes, built on first use and
+     *     dropped once no check or poll needs it
+     * @param adaptiveTimeout derives the timeout of each probe request and
+     *     records the latency it observes
+     */
+    public HealthChecker(SharedHttpClient httpClient, AdaptiveTimeout adaptiveTimeout) {
+        this(httpClient, null, adaptiveTimeout, 0);
+    }
+
+    private HealthChecker(SharedHttpClient httpClient, Duration requestTimeout, AdaptiveTimeout adaptiveTimeout,
+        long maxStatusBodyBytes) {
+        this.httpClient = httpClient;
+        this.loopbackClient = null;
+        this.requestTimeout = requestTimeout;
+        this.adaptiveTimeout = adaptiveTimeout;
+        this.maxStatusBodyBytes = maxStatusBodyBytes;
+        this.probe = this::httpProbe;
+        this.awaitPort = true;
+        this.probeOverrides = Collections.emptyMap();
+        this.cache = null;
+        this.circuitBreaker = null;
+    }
+
+    /**
+     * A checker that evaluates endpoints without HTTP, such as in-process.
+     * Polling skips the TCP pre-probe, since no connection is made.
+     * @param probe performs each check
+     */
+    public HealthChecker(HealthProbe probe) {
+        this.httpClient = null;
+        this.loopbackClient = null;
+        this.requestTimeout = null;
+        this.adaptiveTimeout = null;
+        this.maxStatusBodyBytes = 0;
+        this.probe = probe;
+        this.awaitPort = false;
+        this.probeOverrides = Collections.emptyMap();
+        this.cache = null;
+        this.circuitBreaker = null;
+    }
+
+    private HealthChecker(HealthChecker base, SharedHttpClient loopbackClient, Map<String, HealthProbe> probeOverrides,
+        HealthResultCache cache, CircuitBreaker circuitBreaker) {
+        this.httpClient = base.httpClient;
+        this.loopbackClient = loopbackClient;
+        this.requestTimeout = base.requestTimeout;
+        this.adaptiveTimeout = base.adaptiveTimeout;
+        this.maxStatusBodyBytes = base.maxStatusBodyBytes;
+        // An HTTP probe is bound to its checker, so rebind it to pick up this one's clients
+        this.probe = base.httpClient != null ? this::httpProbe : base.probe;
+        this.awaitPort = base.awaitPort;
+        this.probeOverrides = probeOverrides;
+        this.cache = cache;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * @param client the client for endpoints on this machine, such as
+     *     {@link HttpClientProfiles#LOOPBACK}
+     * @return a checker that probes loopback endpoints with the given client
+     *     and any other endpoint with this one's
+     */
+    public HealthChecker withLoopbackClient(HttpClient client) {
+        return withLoopbackClient(SharedHttpClient.of(client));
+    }
+
+    /**
+     * @param client the client for endpoints on this machine, such as
+     *     {@link HttpClientProfiles#LOOPBACK}
+     * @return a checker that probes loopback endpoints with the given client
+     *     and any other endpoint with this one's
+     */
+    public HealthChecker withLoopbackClient(SharedHttpClient client) {
+        return new HealthChecker(this, client, probeOverrides, cache, circuitBreaker);
+    }
+
+    /**
+     * @param endpoint the endpoint to evaluate differently
+     * @param endpointProbe performs each check of that endpoint, without a TCP pre-probe
+     * @return a checker that uses the given probe for the endpoint and this one's for any other
+     */
+    public HealthChecker withProbe(String endpoint, HealthProbe endpointProbe) {
+        Map<String, HealthProbe> overrides = new HashMap<>(probeOverrides);
+        overrides.put(endpoint, endpointProbe);
+        return new HealthChecker(this, loopbackClient, Collections.unmodifiableMap(overrides), cache,
+            circuitBreaker);
+    }
+
+    /**
+     * @param resultCache where results are looked up before probing and stored after
+     * @return a checker that answers from the cache while a result is live
+     */
+    public HealthChecker withCache(HealthResultCache resultCache) {
+        return new HealthChecker(this, loopbackClient, probeOverrides, resultCache, circuitBreaker);
+    }
+
+    /**
+     * @param breaker tracks each endpoint's failures and stops probing it while its circuit is open
+     * @return a checker that fails fast with {@link CircuitOpenException} for known-bad endpoints
+     */
+    public HealthChecker withCircuitBreaker(CircuitBreaker breaker) {
+        return new HealthChecker(this, loopbackClient, probeOverrides, cache, breaker);
+    }
+
+    /**
+     * @return the checker used by {@code JavaBrowserLauncher}
+     */
+    public static HealthChecker getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Checks the endpoint, joining a check already in flight for it.
+     * @param endpoint the health endpoint URL
+     * @return a future that always completes normally with the result
+     */
+    public CompletableFuture<HealthCheckResult> checkAsync(String endpoint) {
+        if (cache == null && circuitBreaker == null) {
+            return inFlight.execute(endpoint, () -> probeSafely(endpoint));
+        }
+        HealthCheckResult cached = cache != null ? cache.get(endpoint) : null;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire(endpoint)) {
+            return CompletableFuture.completedFuture(HealthCheckResult.ofError(endpoint,
+                new CircuitOpenException(endpoint, circuitBreaker.getRetryAfter(endpoint))));
+        }
+        // The breaker sees every outcome, so a half-open trial is always settled
+        return inFlight.execute(endpoint, () -> probeSafely(endpoint)
+            .thenApply(result -> {
+                if (circuitBreaker != null) {
+                    circuitBreaker.record(endpoint, result);
+                }
+                if (cache != null) {
+                    cache.put(endpoint, result);
+                }
+                return result;
+            }));
+    }
+
+    /**
+     * A probe that throws or fails its future becomes an error result.
+     */
+    private CompletableFuture<HealthCheckResult> probeSafely(String endpoint) {
+        CompletableFuture<HealthCheckResult> probed;
+        try {
+            probed = probeOverrides.getOrDefault(endpoint, probe).probe(endpoint);
+        } catch (RuntimeException e) {
+            probed = CompletableFuture.failedFuture(e);
+        }
+        return probed.handle((result, error) -> error != null ? HealthCheckResult.ofError(endpoint, unwrap(error)) : result);
+    }
+
+    /**
+     * Blocking variant of {@link #checkAsync(String)}.
+     * @param endpoint the health endpoint URL
+     * @return the result
+     */
+    public HealthCheckResult check(String endpoint) {
+        try {
+            return checkAsync(endpoint).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HealthCheckResult.ofError(endpoint, e);
+        } catch (ExecutionException e) {
+            return HealthCheckResult.ofError(endpoint, e.getCause());
+        }
+    }
+
+    /**
+     * Polls the endpoint until it is healthy or the policy's deadline passes.
+     * @param endpoint the health endpoint URL
+     * @param policy the backoff and deadline to apply
+     * @return a future that always completes normally with the last result,
+     *     carrying the attempt count and elapsed time
+     */
+    public CompletableFuture<HealthCheckResult> pollAsync(String endpoint, RetryPolicy policy) {
+        if (!policy.isRetrying()) {
+            return checkAsync(endpoint);
+        }
+        Poll poll = new Poll(endpoint, policy);
+        // Keep the connections alive between attempts; the clients go once the poll is over
+        retainClients();
+        poll.result.whenComplete((result, error) -> releaseClients());
+        poll.start();
+        return poll.result;
+    }
+
+    private void retainClients() {
+        if (httpClient != null) {
+            httpClient.retain();
+        }
+        if (loopbackClient != null) {
+            loopbackClient.retain();
+        }
+    }
+
+    private void releaseClients() {
+        if (httpClient != null) {
+            httpClient.release();
+        }
+        if (loopbackClient != null) {
+            loopbackClient.release();
+        }
+    }
+
+    /**
+     * Polls several endpoints in parallel until enough of them are healthy.
+     *
+     * The gate decides as soon as {@code required} endpoints are healthy, or
+     * as soon as so many have given up that the rest cannot make up the
+     * number; polls still running at that point are cancelled. The wait is
+     * therefore bounded by the slowest endpoint actually needed.
+     * @param endpoints the health endpoint URLs
+     * @param required how many must be healthy: the size for all, 1 for any
+     * @param policy the backoff and deadline applied to each endpoint
+     * @return a future that always completes normally with the gate result
+     */
+    public CompletableFuture<HealthGateResult> pollGateAsync(List<String> endpoints, int required,
+        RetryPolicy policy) {
+        if (required < 1 || required > endpoints.size()) {
+            throw new IllegalArgumentException(
+                "required must be within [1, " + endpoints.size() + "]: " + required);
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<HealthGateResult> gate = new CompletableFuture<>();
+        List<HealthCheckResult> results = new ArrayList<>();
+        List<CompletableFuture<HealthCheckResult>> polls = new ArrayList<>();
+
+        for (String endpoint : endpoints) {
+            if (gate.isDone()) {
+                break;
+            }
+            CompletableFuture<HealthCheckResult> poll = pollAsync(endpoint, policy);
+            polls.add(poll);
+            poll.thenAccept(result -> {
+                synchronized (results) {
+                    results.add(result);
+                    long healthy = results.stream().filter(HealthCheckResult::isHealthy).count();
+                    long failed = results.size() - healthy;
+                    if (healthy >= required || failed > endpoints.size() - required) {
+                        gate.complete(new HealthGateResult(healthy >= required, required, endpoints.size(),
+                            new ArrayList<>(results), Duration.ofNanos(System.nanoTime() - startNanos)));
+                    }
+                }
+            });
+        }
+        // Decided, or cancelled by the caller: stop polling the stragglers
+        gate.whenComplete((outcome, error) -> polls.forEach(poll -> poll.cancel(false)));
+        return gate;
+    }
+
+    /**
+     * Blocking variant of {@link #pollGateAsync(List, int, RetryPolicy)}.
+     * @param endpoints the health endpoint URLs
+     * @param required how many must be healthy
+     * @param policy the backoff and deadline applied to each endpoint
+     * @return the gate result
+     */
+    public HealthGateResult pollGate(List<String> endpoints, int required, RetryPolicy policy) {
+        try {
+            return pollGateAsync(endpoints, required, policy).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new HealthGateResult(false, required, endpoints.size(), Collections.emptyList(), Duration.ZERO);
+        } catch (ExecutionException e) {
+            return new HealthGateResult(false, required, endpoints.size(), Collections.emptyList(), Duration.ZERO);
+        }
+    }
+
+    /**
+     * Blocking variant of {@link #pollAsync(String, RetryPolicy)}.
+     * @param endpoint the health endpoint URL
+     * @param policy the backoff and deadline to apply
+     * @return the last result
+     */
+    public HealthCheckResult poll(String endpoint, RetryPolicy policy) {
+        try {
+            return pollAsync(endpoint, policy).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HealthCheckResult.ofError(endpoint, e);
+        } catch (ExecutionException e) {
+            return HealthCheckResult.ofError(endpoint, e.getCause());
+        }
+    }
+
+    private CompletableFuture<HealthCheckResult> httpProbe(String endpoint) {
+        Duration timeout = adaptiveTimeout != null ? adaptiveTimeout.timeoutFor(endpoint) : requestTimeout;
+        URI uri;
+        try {
+            uri = URI.create(endpoint);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(HealthCheckResult.ofError(endpoint, e));
+        }
+        return loopbackTarget(uri, timeout).thenCompose(target -> send(endpoint, target, timeout));
+    }
+
+    /**
+     * Resolves a plain-HTTP {@code localhost} endpoint to the loopback address
+     * that actually listens, racing IPv6 and IPv4 the first time.
+     */
+    private static CompletableFuture<URI> loopbackTarget(URI uri, Duration timeout) {
+        if (!"http".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+            return CompletableFuture.completedFuture(uri);
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : 80;
+        List<InetSocketAddress> candidates = HappyEyeballs.candidatesFor(uri.getHost(), port);
+        if (candidates == null) {
+            return CompletableFuture.completedFuture(uri);
+        }
+        InetAddress winner = HappyEyeballs.winnerFor(uri.getHost(), port);
+        if (winner != null) {
+            return CompletableFuture.completedFuture(HappyEyeballs.withAddress(uri, winner));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            InetSocketAddress open = HappyEyeballs.connect(candidates, timeout.toNanos());
+            if (open == null) {
+                // Nothing listens; let the request report the failure as usual
+                return uri;
+            }
+            HappyEyeballs.remember(uri.getHost(), port, open.getAddress());
+            return HappyEyeballs.withAddress(uri, open.getAddress());
+        }, ExecutionBackend.executor());
+    }
+
+    private CompletableFuture<HealthCheckResult> send(String endpoint, URI target, Duration timeout) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                .uri(target)
+                .timeout(timeout)
+                .GET()
+                .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(HealthCheckResult.ofError(endpoint, e));
+        }
+
+        SharedHttpClient client = loopbackClient != null && HttpClientProfiles.isLoopback(target.getHost())
+            ? loopbackClient
+            : httpClient;
+        long startNanos = System.nanoTime();
+        CompletableFuture<HealthCheckResult> exchange = maxStatusBodyBytes > 0
+            ? client.sendAsync(request, ActuatorStatusSubscriber.handler(maxStatusBodyBytes))
+                .thenApply(response -> HealthCheckResult.ofStatus(endpoint, response.statusCode())
+                    .withBodyStatus(response.body()))
+            : client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> HealthCheckResult.ofStatus(endpoint, response.statusCode()));
+        return exchange.handle((result, error) -> {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            Throwable cause = error != null ? unwrap(error) : null;
+            recordLatency(endpoint, timeout, elapsed, cause);
+            if (cause instanceof ConnectException && !target.toString().equals(endpoint)) {
+                // The remembered loopback address stopped listening; race again next time
+                URI uri = URI.create(endpoint);
+                HappyEyeballs.forget(uri.getHost(), target.getPort() != -1 ? target.getPort() : 80);
+            }
+            return (cause != null ? HealthCheckResult.ofError(endpoint, cause) : result).withAttempts(1, elapsed);
+        });
+    }
+
+    /**
+     * Only answers and timeouts say anything about latency; a refused or
+     * reset connection fails at whatever speed the network reports it.
+     */
+    private void recordLatency(String endpoint, Duration timeout, Duration elapsed, Throwable error) {
+        if (adaptiveTimeout == null) {
+            return;
+        }
+        if (error == null) {
+            adaptiveTimeout.record(endpoint, elapsed);
+        } else if (error instanceof HttpTimeoutException) {
+            adaptiveTimeout.recordTimeout(endpoint, timeout);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "browser-launcher-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // No resident thread once polling is over
+        scheduler.setKeepAliveTime(1, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * One polling run: attempts are chained, never overlapping, and a timer
+     * completes the run with the last result once the deadline passes.
+     */
+    private boolean reachedDirectly(String endpoint) {
+        if (loopbackClient != null) {
+            try {
+                if (HttpClientProfiles.isLoopback(URI.create(endpoint).getHost())) {
+                    // The loopback client never uses a proxy
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return PortProbe.isDirect(endpoint);
+    }
+
+    private final class Poll {
+
+        private final String endpoint;
+        private final RetryPolicy policy;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<HealthCheckResult> result = new CompletableFuture<>();
+        private volatile int attempts;
+        private volatile HealthCheckResult last;
+        private volatile boolean portOpen;
+
+        Poll(String endpoint, RetryPolicy policy) {
+            this.endpoint = endpoint;
+            this.policy = policy;
+            ScheduledFuture<?> deadlineTimer = SCHEDULER.schedule(
+                this::expire, policy.getDeadline().toNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((outcome, error) -> deadlineTimer.cancel(false));
+        }
+
+        /**
+         * Connection-refused is by far the most common early failure, so a
+         * cheap TCP connect stands in for HTTP until the port is bound. Only
+         * endpoints the request reaches directly are probed this way.
+         */
+        void start() {
+            boolean overTcp = awaitPort && !probeOverrides.containsKey(endpoint) && reachedDirectly(endpoint);
+            List<InetSocketAddress> addresses = overTcp ? PortProbe.addressesOf(endpoint) : null;
+            if (addresses == null) {
+                portOpen = true;
+                attempt();
+                return;
+            }
+            PortProbe.awaitOpenAsync(addresses, policy.getDeadline(), result::isDone, SCHEDULER,
+                    ExecutionBackend.executor())
+                .thenAccept(open -> {
+                    if (open != null) {
+                        if (addresses.size() > 1) {
+                            // The race already found the loopback address that listens
+                            URI uri = URI.create(endpoint);
+                            HappyEyeballs.remember(uri.getHost(), open.getPort(), open.getAddress());
+                        }
+                        portOpen = true;
+                        attempt();
+                    }
+                });
+        }
+
+        void attempt() {
+            // Completed by success, the deadline, or a caller cancelling
+            if (result.isDone()) {
+                return;
+            }
+            int attempt = ++attempts;
+            checkAsync(endpoint).thenAccept(outcome -> {
+                Duration elapsed = elapsed();
+                last = outcome.withAttempts(attempt, elapsed);
+                if (last.isHealthy()) {
+                    result.complete(last);
+                    return;
+                }
+                Duration backoff = policy.backoffAfter(attempt);
+                if (elapsed.plus(backoff).compareTo(policy.getDeadline()) >= 0) {
+                    result.complete(last);
+                    return;
+                }
+                SCHEDULER.schedule(this::attempt, backoff.toNanos(), TimeUnit.NANOSECONDS);
+            });
+        }
+
+        private void expire() {
+            HealthCheckResult outcome = last != null
+                ? last
+                : HealthCheckResult.ofError(endpoint, new TimeoutException(portOpen
+                    ? "No health check response within " + policy.getDeadline()
+                    : "Port not accepting connections within " + policy.getDeadline()));
+            result.complete(outcome.withAttempts(attempts, elapsed()));
+        }
+
+        private Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @return the number of distinct endpoints with a probe in flight
+     */
+    int inFlightCount() {
+        return inFlight.inFlightCount();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of gating on several health endpoints.
+ */
+public final class HealthGateResult {
+
+    private final boolean passed;
+    private final int required;
+    private final int total;
+    private final List<HealthCheckResult> results;
+    private final Duration elapsed;
+
+    HealthGateResult(boolean passed, int required, int total, List<HealthCheckResult> results, Duration elapsed) {
+        this.passed = passed;
+        this.required = required;
+        this.total = total;
+        this.results = Collections.unmodifiableList(results);
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return true if at least the required number of endpoints were healthy
+     */
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public int getRequired() {
+        return required;
+    }
+
+    /**
+     * @return the number of endpoints gated on
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the results that had arrived when the gate decided, in arrival order;
+     *     endpoints still being polled at that point have none
+     */
+    public List<HealthCheckResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the number of healthy results
+     */
+    public int getHealthyCount() {
+        return (int) results.stream().filter(HealthCheckResult::isHealthy).count();
+    }
+
+    /**
+     * @return the time from the start of the gate to its decision
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+}
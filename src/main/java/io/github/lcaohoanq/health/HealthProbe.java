@@ -0,0 +1,16 @@
+package io.github.lcaohoanq.health;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One health check attempt against an endpoint.
+ */
+@FunctionalInterface
+public interface HealthProbe {
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return a future that always completes normally with the result
+     */
+    CompletableFuture<HealthCheckResult> probe(String endpoint);
+}
@@ -0,0 +1,141 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of health check results, so repeated launches against an
+ * endpoint known to be healthy skip the network.
+ *
+ * Healthy results are kept for the TTL and unhealthy ones for the negative
+ * TTL, which is usually much shorter so a recovering endpoint is noticed
+ * quickly; a zero TTL disables caching of that kind of result. Beyond the
+ * maximum size the least recently used endpoint is evicted.
+ */
+public final class HealthResultCache {
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param ttl how long a healthy result is reused
+     * @param negativeTtl how long an unhealthy result is reused
+     * @param maxEntries how many endpoints are cached at most
+     */
+    public HealthResultCache(Duration ttl, Duration negativeTtl, int maxEntries) {
+        this(ttl, negativeTtl, maxEntries, System::nanoTime);
+    }
+
+    HealthResultCache(Duration ttl, Duration negativeTtl, int maxEntries, LongSupplier nanoTime) {
+        if (ttl.isNegative() || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("TTLs must not be negative");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoTime = nanoTime;
+        // Access order, so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > HealthResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @return the cached result, or null if there is none or it has expired
+     */
+    public HealthCheckResult get(String endpoint) {
+        synchronized (entries) {
+            Entry entry = entries.get(endpoint);
+            if (entry != null && nanoTime.getAsLong() - entry.expiresAtNanos < 0) {
+                hits.incrementAndGet();
+                return entry.result;
+            }
+            if (entry != null) {
+                entries.remove(endpoint);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @param endpoint the health endpoint URL
+     * @param result the result to cache, for the TTL matching its health
+     */
+    public void put(String endpoint, HealthCheckResult result) {
+        long ttl = result.isHealthy() ? ttlNanos : negativeTtlNanos;
+        if (ttl == 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(endpoint, new Entry(result, nanoTime.getAsLong() + ttl));
+        }
+    }
+
+    /**
+     * @param endpoint the health endpoint URL whose result must be probed again
+     */
+    public void invalidate(String endpoint) {
+        synchronized (entries) {
+            entries.remove(endpoint);
+        }
+    }
+
+    /**
+     * Drops every cached result; the counters are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached endpoints, including expired ones not yet looked up
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return how many lookups found a live result
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return how many lookups found nothing or an expired result
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private static final class Entry {
+
+        private final HealthCheckResult result;
+        private final long expiresAtNanos;
+
+        Entry(HealthCheckResult result, long expiresAtNanos) {
+            this.result = result;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of
+ * HdrHistogram: every power of two of microseconds is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a percentile is accurate to about
+ * 6% over the whole range, in a fixed few kilobytes.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+    // 2^36 us is about 19 hours; anything longer is recorded as that
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_MICROS = (1L << MAX_EXPONENT) - 1;
+
+    private final AtomicLongArray counts =
+        new AtomicLongArray(SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * @param latency the observed latency; negative values count as zero
+     */
+    public void record(Duration latency) {
+        long micros = Math.min(Math.max(latency.toNanos() / 1000, 0), MAX_MICROS);
+        counts.incrementAndGet(indexOf(micros));
+        total.incrementAndGet();
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return total.get();
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding that percentile, or
+     *     {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Duration.ofNanos(upperBoundOf(i) * 1000);
+            }
+        }
+        // Counts raced ahead of the total; the last bucket is a safe answer
+        return Duration.ofNanos(upperBoundOf(counts.length() - 1) * 1000);
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
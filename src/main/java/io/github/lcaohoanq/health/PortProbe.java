@@ -0,0 +1,146 @@
+package io.github.lcaohoanq.health;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for a TCP port to accept connections before any HTTP is spent on it.
+ *
+ * Each attempt is a non-blocking {@link java.nio.channels.SocketChannel} connect. While the
+ * port is not bound the connect is refused straight away, so attempts are
+ * retried on a short scheduled backoff, which keeps detection within a few
+ * milliseconds of the port opening without a thread sleeping in between.
+ * For {@code localhost} every attempt races the IPv6 and IPv4 loopback addresses through {@link HappyEyeballs}.
+ */
+final class PortProbe {
+
+    private static final long INITIAL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    // Bounds how long one attempt holds its thread while a connect is pending
+    private static final long MAX_ATTEMPT_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private PortProbe() {
+    }
+
+    /**
+     * @param endpoint an http or https URL
+     * @return the addresses the endpoint may connect to, in attempt order, or
+     *     null if it cannot be resolved
+     */
+    static List<InetSocketAddress> addressesOf(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+            if (uri.getHost() == null || !(scheme.equals("http") || scheme.equals("https"))) {
+                return null;
+            }
+            int port = uri.getPort() != -1 ? uri.getPort() : scheme.equals("https") ? 443 : 80;
+            List<InetSocketAddress> loopback = HappyEyeballs.candidatesFor(uri.getHost(), port);
+            if (loopback != null) {
+                return loopback;
+            }
+            InetSocketAddress address = new InetSocketAddress(uri.getHost(), port);
+            return address.isUnresolved() ? null : List.of(address);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A TCP connect only says something about the endpoint when the HTTP
+     * request goes to the same host; through a proxy it would probe the wrong
+     * host, or one the proxy is there to reach.
+     * @param endpoint an http or https URL
+     * @return true if the default proxy selector sends the endpoint directly
+     */
+    static boolean isDirect(String endpoint) {
+        try {
+            ProxySelector selector = ProxySelector.getDefault();
+            if (selector == null) {
+                return true;
+            }
+            List<Proxy> proxies = selector.select(URI.create(endpoint));
+            return proxies == null || proxies.stream().allMatch(proxy -> proxy.type() == Proxy.Type.DIRECT);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Waits until one of the addresses accepts a connection. No thread waits
+     * between attempts: each attempt runs on the executor and the next one is
+     * scheduled after the backoff.
+     * @param addresses the addresses to race, in attempt order
+     * @param timeout how long to keep trying
+     * @param abandoned checked between attempts; returning true stops waiting
+     * @param scheduler times the backoff between attempts
+     * @param executor runs the attempts
+     * @return a future completing with the address that accepted a connection,
+     *     or with null on timeout or abandonment
+     */
+    static CompletableFuture<InetSocketAddress> awaitOpenAsync(List<InetSocketAddress> addresses, Duration timeout,
+        BooleanSupplier abandoned, ScheduledExecutorService scheduler, Executor executor) {
+        Wait wait = new Wait(addresses, System.nanoTime() + timeout.toNanos(), abandoned, scheduler, executor);
+        executor.execute(wait::attempt);
+        return wait.result;
+    }
+
+    private static final class Wait {
+
+        private final List<InetSocketAddress> addresses;
+        private final long deadline;
+        private final BooleanSupplier abandoned;
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
+        private final CompletableFuture<InetSocketAddress> result = new CompletableFuture<>();
+        private long backoff = INITIAL_BACKOFF_NANOS;
+
+        Wait(List<InetSocketAddress> addresses, long deadline, BooleanSupplier abandoned,
+            ScheduledExecutorService scheduler, Executor executor) {
+            this.addresses = addresses;
+            this.deadline = deadline;
+            this.abandoned = abandoned;
+            this.scheduler = scheduler;
+            this.executor = executor;
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(this::attempt);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void attempt() {
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (abandoned.getAsBoolean() || remaining <= 0) {
+                    result.complete(null);
+                    return;
+                }
+                // A connect that neither completes nor fails in time counts as closed
+                InetSocketAddress open = HappyEyeballs.connect(addresses, Math.min(remaining, MAX_ATTEMPT_NANOS));
+                if (open != null) {
+                    result.complete(open);
+                    return;
+                }
+                long delay = Math.min(backoff, Math.max(0, deadline - System.nanoTime()));
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+                scheduler.schedule(this::dispatch, delay, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
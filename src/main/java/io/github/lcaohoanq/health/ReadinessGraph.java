@@ -0,0 +1,176 @@
+package io.github.lcaohoanq.health;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * A set of health endpoints with prerequisites between them. Each node is
+ * polled as soon as all of its prerequisites are healthy, so independent
+ * branches are checked in parallel, and a node whose prerequisite fails is
+ * never polled.
+ */
+public final class ReadinessGraph {
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final List<Node> startOrder;
+
+    /**
+     * @param nodes the graph nodes, in declaration order
+     * @throws IllegalArgumentException if a name is blank or repeated, an
+     *     endpoint is missing, a prerequisite is unknown, or the graph has a cycle
+     */
+    public ReadinessGraph(List<Node> nodes) {
+        for (Node node : nodes) {
+            if (node.getName().isEmpty()) {
+                throw new IllegalArgumentException("Readiness node name must not be empty");
+            }
+            if (node.getEndpoint().isEmpty()) {
+                throw new IllegalArgumentException("Readiness node '" + node.getName() + "' has no endpoint");
+            }
+            if (this.nodes.put(node.getName(), node) != null) {
+                throw new IllegalArgumentException("Readiness node '" + node.getName() + "' is declared twice");
+            }
+        }
+        for (Node node : nodes) {
+            for (String prerequisite : node.getDependsOn()) {
+                if (!this.nodes.containsKey(prerequisite)) {
+                    throw new IllegalArgumentException("Readiness node '" + node.getName()
+                        + "' depends on unknown node '" + prerequisite + "'");
+                }
+            }
+        }
+        this.startOrder = topologicalOrder();
+    }
+
+    /**
+     * Kahn's algorithm; nodes left over once no more are free sit on a cycle.
+     */
+    private List<Node> topologicalOrder() {
+        Map<String, Integer> pending = new HashMap<>();
+        Map<String, List<Node>> dependents = new HashMap<>();
+        Deque<Node> free = new ArrayDeque<>();
+        for (Node node : nodes.values()) {
+            pending.put(node.getName(), node.getDependsOn().size());
+            for (String prerequisite : node.getDependsOn()) {
+                dependents.computeIfAbsent(prerequisite, name -> new ArrayList<>()).add(node);
+            }
+            if (node.getDependsOn().isEmpty()) {
+                free.add(node);
+            }
+        }
+
+        List<Node> order = new ArrayList<>(nodes.size());
+        while (!free.isEmpty()) {
+            Node node = free.poll();
+            order.add(node);
+            for (Node dependent : dependents.getOrDefault(node.getName(), Collections.emptyList())) {
+                if (pending.merge(dependent.getName(), -1, Integer::sum) == 0) {
+                    free.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < nodes.size()) {
+            List<String> cyclic = nodes.values().stream()
+                .filter(node -> !order.contains(node))
+                .map(Node::getName)
+                .collect(Collectors.toList());
+            throw new IllegalArgumentException("Readiness graph has a cycle through " + cyclic);
+        }
+        return order;
+    }
+
+    /**
+     * @return the nodes in declaration order
+     */
+    public List<Node> getNodes() {
+        return new ArrayList<>(nodes.values());
+    }
+
+    /**
+     * Starts polling every node whose prerequisites are met, and each further
+     * node as soon as its own prerequisites turn healthy.
+     * @param healthChecker the checker that evaluates the endpoints
+     * @param retryPolicy the backoff and deadline applied to each node
+     * @return by node name, the outcome of that node; a node is healthy only
+     *     when every node it depends on, directly or not, is healthy too
+     */
+    public Map<String, CompletableFuture<HealthCheckResult>> startAsync(HealthChecker healthChecker,
+        RetryPolicy retryPolicy) {
+        Map<String, CompletableFuture<HealthCheckResult>> readiness = new LinkedHashMap<>();
+        for (Node node : startOrder) {
+            List<CompletableFuture<HealthCheckResult>> prerequisites = new ArrayList<>();
+            for (String prerequisite : node.getDependsOn()) {
+                prerequisites.add(readiness.get(prerequisite));
+            }
+            CompletableFuture<HealthCheckResult> result = CompletableFuture
+                .allOf(prerequisites.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> {
+                    for (int i = 0; i < prerequisites.size(); i++) {
+                        if (!prerequisites.get(i).join().isHealthy()) {
+                            return CompletableFuture.completedFuture(HealthCheckResult.ofError(node.getEndpoint(),
+                                new IllegalStateException("Prerequisite '" + node.getDependsOn().get(i)
+                                    + "' of '" + node.getName() + "' is not ready")));
+                        }
+                    }
+                    return healthChecker.pollAsync(node.getEndpoint(), retryPolicy);
+                });
+            readiness.put(node.getName(), result);
+        }
+
+        Map<String, CompletableFuture<HealthCheckResult>> byDeclaration = new LinkedHashMap<>();
+        for (String name : nodes.keySet()) {
+            byDeclaration.put(name, readiness.get(name));
+        }
+        return byDeclaration;
+    }
+
+    /**
+     * One endpoint of the graph, with the nodes it waits for and the URLs it
+     * opens once ready.
+     */
+    public static final class Node {
+
+        private final String name;
+        private final String endpoint;
+        private final List<String> dependsOn;
+        private final List<String> urls;
+
+        /**
+         * @param name the name other nodes depend on
+         * @param endpoint the health check URL
+         * @param dependsOn the prerequisite node names
+         * @param urls the URLs to open once this node is ready
+         */
+        public Node(String name, String endpoint, List<String> dependsOn, List<String> urls) {
+            this.name = name == null ? "" : name.trim();
+            this.endpoint = endpoint == null ? "" : endpoint.trim();
+            this.dependsOn = List.copyOf(dependsOn);
+            this.urls = List.copyOf(urls);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public List<String> getDependsOn() {
+            return dependsOn;
+        }
+
+        public List<String> getUrls() {
+            return urls;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.lcaohoanq.health;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How a health endpoint is polled until it turns healthy.
+ *
+ * The first probe is sent immediately. Later probes wait an exponentially
+ * growing backoff with random jitter, and no probe starts after the deadline.
+ */
+public final class RetryPolicy {
+
+    private static final RetryPolicy NONE = new RetryPolicy(Duration.ZERO, Duration.ZERO, 1.0, Duration.ZERO, 0.0);
+
+    private final Duration deadline;
+    private final Duration initialBackoff;
+    private final double multiplier;
+    private final Duration maxBackoff;
+    private final double jitter;
+
+    private RetryPolicy(Duration deadline, Duration initialBackoff, double multiplier, Duration maxBackoff,
+        double jitter) {
+        this.deadline = deadline;
+        this.initialBackoff = initialBackoff;
+        this.multiplier = multiplier;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+    }
+
+    /**
+     * @return a policy that probes exactly once
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Polls until healthy or until the deadline passes, starting at 100ms
+     * backoff, doubling up to 5s, with 20% jitter.
+     * @param deadline the total time budget
+     * @return the policy
+     */
+    public static RetryPolicy withDeadline(Duration deadline) {
+        return new RetryPolicy(deadline, Duration.ofMillis(100), 2.0, Duration.ofSeconds(5), 0.2);
+    }
+
+    /**
+     * @param initialBackoff the wait before the second probe
+     * @param multiplier the growth factor per attempt
+     * @param maxBackoff the cap on any single wait
+     * @return a copy with the given backoff
+     */
+    public RetryPolicy withBackoff(Duration initialBackoff, double multiplier, Duration maxBackoff) {
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be >= 1: " + multiplier);
+        }
+        return new RetryPolicy(deadline, initialBackoff, multiplier, maxBackoff, jitter);
+    }
+
+    /**
+     * @param jitter the random spread applied to each wait, from 0 (none) to 1 (up to +/-100%)
+     * @return a copy with the given jitter
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("jitter must be within [0, 1]: " + jitter);
+        }
+        return new RetryPolicy(deadline, initialBackoff, multiplier, maxBackoff, jitter);
+    }
+
+    /**
+     * @param attempt the number of probes already made, at least 1
+     * @return the wait before the next probe
+     */
+    Duration backoffAfter(int attempt) {
+        double base = initialBackoff.toNanos() * Math.pow(multiplier, attempt - 1);
+        double capped = Math.min(base, maxBackoff.toNanos());
+        double spread = jitter == 0.0 ? 1.0 : 1.0 - jitter + ThreadLocalRandom.current().nextDouble() * 2 * jitter;
+        return Duration.ofNanos((long) (capped * spread));
+    }
+
+    /**
+     * @return true if this policy ever retries
+     */
+    public boolean isRetrying() {
+        return !deadline.isZero() && !deadline.isNegative();
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.lcaohoanq.launch;
+
+import java.awt.Desktop;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * The only class of the launcher that touches AWT. It is loaded, and AWT with
+ * it, only once {@link DesktopLaunchStrategy} has found a display to use.
+ */
+final class AwtDesktop {
+
+    private AwtDesktop() {
+    }
+
+    static boolean isBrowseSupported() {
+        if (!Desktop.isDesktopSupported()) {
+            return false;
+        }
+        Desktop desktop = Desktop.getDesktop();
+        return desktop != null && desktop.isSupported(Desktop.Action.BROWSE);
+    }
+
+    static void browse(List<String> urls) throws IOException {
+        Desktop desktop = Desktop.getDesktop();
+        for (String url : urls) {
+            desktop.browse(URI.create(url));
+        }
+    }
+}
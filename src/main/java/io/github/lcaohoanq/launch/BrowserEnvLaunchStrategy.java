@@ -0,0 +1,48 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * The commands in the {@code BROWSER} environment variable, the user's
+ * explicit choice on Unix-like systems.
+ *
+ * Following the convention of {@code xdg-open} and Python's {@code webbrowser},
+ * the variable may list several commands separated by {@code :}; the first
+ * one found on the {@code PATH} is used.
+ */
+public class BrowserEnvLaunchStrategy extends CommandLaunchStrategy {
+
+    static final String BROWSER_VARIABLE = "BROWSER";
+
+    private volatile List<String> command = List.of();
+
+    public BrowserEnvLaunchStrategy() {
+        super("$BROWSER", 100, List.of());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        String browsers = System.getenv(BROWSER_VARIABLE);
+        if (browsers == null) {
+            return false;
+        }
+        for (String browser : browsers.split(":")) {
+            List<String> candidate = split(browser);
+            if (!candidate.isEmpty() && Executables.resolve(candidate.get(0)) != null) {
+                command = candidate;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return true;
+    }
+
+    @Override
+    protected List<String> command() {
+        return command;
+    }
+}
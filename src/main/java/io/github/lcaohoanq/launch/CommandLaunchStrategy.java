@@ -0,0 +1,170 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Opens each URL with an external command, such as {@code xdg-open URL}.
+ *
+ * The command is started by the {@link ProcessSpawner} with the URL as a separate
+ * argument, so URLs with spaces or shell metacharacters are passed verbatim.
+ * An argument {@code %s} is replaced by the URL; without one the URL is
+ * appended. The strategy is available when the operating system matches and
+ * the executable is found on the {@code PATH}; it is then started by the
+ * absolute path {@link Executables} resolved.
+ *
+ * Several URLs are opened with one process when the command takes them all
+ * on one command line, as Firefox and Chromium-based browsers do; otherwise
+ * one process is started per URL.
+ */
+public abstract class CommandLaunchStrategy implements LaunchStrategy {
+
+    /**
+     * Browsers that open every URL given as an argument, by executable name.
+     */
+    static final Set<String> MULTI_URL_BROWSERS = Set.of(
+        "firefox", "firefox-esr", "chromium", "chromium-browser", "google-chrome", "google-chrome-stable",
+        "brave-browser", "microsoft-edge", "microsoft-edge-stable", "msedge", "chrome");
+
+    private final String name;
+    private final int priority;
+    private final List<String> command;
+
+    /**
+     * @param name the name for log messages
+     * @param priority the probe order
+     * @param command the executable and its arguments
+     */
+    protected CommandLaunchStrategy(String name, int priority, List<String> command) {
+        this.name = name;
+        this.priority = priority;
+        this.command = List.copyOf(command);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        List<String> template = command();
+        return !template.isEmpty()
+            && supportsOs(System.getProperty("os.name", "").toLowerCase(Locale.ROOT))
+            && Executables.resolve(template.get(0)) != null;
+    }
+
+    /**
+     * @return the executable and its arguments, possibly empty if not configured
+     */
+    protected List<String> command() {
+        return command;
+    }
+
+    /**
+     * @param os the lower-case {@code os.name}
+     * @return true if the command exists on this operating system
+     */
+    protected abstract boolean supportsOs(String os);
+
+    @Override
+    public void open(List<String> urls) throws IOException {
+        if (urls.size() > 1 && acceptsMultipleUrls()) {
+            List<String> commandLine = new ArrayList<>(command());
+            commandLine.addAll(urls);
+            spawn(commandLine);
+            return;
+        }
+        for (String url : urls) {
+            spawn(commandFor(url));
+        }
+    }
+
+    /**
+     * Starts a command line by the absolute path of its executable.
+     * @param commandLine the executable and its arguments
+     * @throws IOException if the executable is no longer found or fails to start
+     */
+    protected void spawn(List<String> commandLine) throws IOException {
+        String executable = Executables.resolve(commandLine.get(0));
+        if (executable == null) {
+            throw new IOException(commandLine.get(0) + " not found on the PATH");
+        }
+        List<String> resolved = new ArrayList<>(commandLine);
+        resolved.set(0, executable);
+        spawner().spawn(resolved);
+    }
+
+    /**
+     * @return the spawner that starts and reaps the command's processes
+     */
+    protected ProcessSpawner spawner() {
+        return ProcessSpawner.getDefault();
+    }
+
+    /**
+     * @return true if the command opens every URL appended to it with a
+     *     single process; a command with a {@code %s} placeholder never does
+     */
+    protected boolean acceptsMultipleUrls() {
+        List<String> template = command();
+        return !template.isEmpty()
+            && template.stream().noneMatch(argument -> argument.contains("%s"))
+            && isMultiUrlBrowser(template.get(0));
+    }
+
+    /**
+     * @param executable a command name or path
+     * @return true if it names a browser in {@link #MULTI_URL_BROWSERS}
+     */
+    static boolean isMultiUrlBrowser(String executable) {
+        String name = new File(executable).getName().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".exe")) {
+            name = name.substring(0, name.length() - 4);
+        }
+        return MULTI_URL_BROWSERS.contains(name);
+    }
+
+    /**
+     * @param url the URL to open
+     * @return the full command line
+     */
+    protected List<String> commandFor(String url) {
+        List<String> commandLine = new ArrayList<>();
+        boolean substituted = false;
+        for (String argument : command()) {
+            if (argument.contains("%s")) {
+                commandLine.add(argument.replace("%s", url));
+                substituted = true;
+            } else {
+                commandLine.add(argument);
+            }
+        }
+        if (!substituted) {
+            commandLine.add(url);
+        }
+        return commandLine;
+    }
+
+    /**
+     * @param commandLine a command line such as {@code firefox --new-tab %s}
+     * @return its words; quoting is not supported
+     */
+    static List<String> split(String commandLine) {
+        String trimmed = commandLine == null ? "" : commandLine.trim();
+        return trimmed.isEmpty() ? List.of() : List.of(trimmed.split("\\s+"));
+    }
+
+    static boolean isLinuxLike(String os) {
+        return os.contains("nix") || os.contains("nux");
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * The command set in the {@value #COMMAND_PROPERTY} system property, such as
+ * {@code -Dbrowser-launcher.command="firefox --new-tab %s"}. It is probed
+ * before any other built-in strategy.
+ */
+public class CustomCommandLaunchStrategy extends CommandLaunchStrategy {
+
+    public static final String COMMAND_PROPERTY = "browser-launcher.command";
+
+    public CustomCommandLaunchStrategy() {
+        super("custom command", -100, List.of());
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return true;
+    }
+
+    @Override
+    protected List<String> command() {
+        return split(System.getProperty(COMMAND_PROPERTY));
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opens URLs with {@code java.awt.Desktop#browse}, the default browser of the
+ * desktop session.
+ *
+ * Loading AWT costs startup time and memory only to learn, on a build agent or
+ * in a container, that there is nothing to browse with. So before any AWT
+ * class is touched, {@link HeadlessCheck} looks for a display; AWT itself is
+ * confined to {@link AwtDesktop}. The {@value #DESKTOP_PROPERTY} system
+ * property overrides the check: {@code auto} (the default), {@code always}
+ * to go straight to AWT, or {@code never}.
+ *
+ * GraalVM sets {@value #NATIVE_IMAGE_PROPERTY} inside native images, where
+ * AWT is not usable, so the strategy is always unavailable there.
+ */
+public class DesktopLaunchStrategy implements LaunchStrategy {
+
+    public static final String DESKTOP_PROPERTY = "browser-launcher.desktop";
+
+    static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    @Override
+    public String getName() {
+        return "desktop";
+    }
+
+    @Override
+    public int getPriority() {
+        return 200;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        if (System.getProperty(NATIVE_IMAGE_PROPERTY) != null) {
+            return false;
+        }
+        switch (System.getProperty(DESKTOP_PROPERTY, "auto").toLowerCase(Locale.ROOT)) {
+            case "never":
+                return false;
+            case "always":
+                return AwtDesktop.isBrowseSupported();
+            default:
+                return !HeadlessCheck.isHeadless() && AwtDesktop.isBrowseSupported();
+        }
+    }
+
+    @Override
+    public void open(List<String> urls) throws IOException {
+        AwtDesktop.browse(urls);
+    }
+}
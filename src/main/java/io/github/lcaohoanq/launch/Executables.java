@@ -0,0 +1,110 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves command names against the {@code PATH} and caches the absolute
+ * paths found.
+ *
+ * Starting a process by absolute path spares the search of every
+ * {@code PATH} directory on each launch, and a missing command is known
+ * before anything is started. A cached path is checked with a single
+ * modification-time lookup: if the file was replaced or removed, the name is
+ * resolved again. Names that are not found are not cached, so a command
+ * installed later is picked up.
+ */
+public final class Executables {
+
+    private static final Map<String, Resolved> CACHE = new ConcurrentHashMap<>();
+
+    private Executables() {
+    }
+
+    /**
+     * @param executable a command name, or a path containing a separator
+     * @return the absolute path of the executable, or null if there is none
+     */
+    public static String resolve(String executable) {
+        Resolved cached = CACHE.get(executable);
+        if (cached != null && cached.isCurrent()) {
+            return cached.file.getPath();
+        }
+        File file = search(executable, System.getenv("PATH"));
+        if (file == null) {
+            CACHE.remove(executable);
+            return null;
+        }
+        CACHE.put(executable, new Resolved(file, file.lastModified()));
+        return file.getPath();
+    }
+
+    /**
+     * Forgets every resolved path.
+     */
+    public static void invalidate() {
+        CACHE.clear();
+    }
+
+    private static File search(String executable, String path) {
+        if (executable.contains("/") || executable.contains(File.separator)) {
+            File file = new File(executable).getAbsoluteFile();
+            return isExecutable(file) ? file : null;
+        }
+        if (path == null) {
+            return null;
+        }
+        List<String> names = namesOf(executable);
+        for (String directory : path.split(File.pathSeparator)) {
+            if (directory.isEmpty()) {
+                continue;
+            }
+            for (String name : names) {
+                File file = new File(directory, name).getAbsoluteFile();
+                if (isExecutable(file)) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> namesOf(String executable) {
+        List<String> names = new ArrayList<>();
+        names.add(executable);
+        if (System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win")) {
+            // rundll32 is found as rundll32.exe
+            String extensions = System.getenv("PATHEXT");
+            for (String extension : (extensions != null ? extensions : ".COM;.EXE;.BAT;.CMD").split(";")) {
+                if (!extension.isEmpty()) {
+                    names.add(executable + extension.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+
+    private static boolean isExecutable(File file) {
+        return file.isFile() && file.canExecute();
+    }
+
+    private static final class Resolved {
+
+        private final File file;
+        private final long lastModified;
+
+        Resolved(File file, long lastModified) {
+            this.file = file;
+            this.lastModified = lastModified;
+        }
+
+        boolean isCurrent() {
+            // lastModified() is 0 once the file is gone
+            return lastModified != 0 && file.lastModified() == lastModified;
+        }
+    }
+}
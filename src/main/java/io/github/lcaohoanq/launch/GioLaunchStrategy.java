@@ -0,0 +1,24 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * {@code gio open}, for GNOME systems without {@code xdg-utils}.
+ */
+public class GioLaunchStrategy extends CommandLaunchStrategy {
+
+    public GioLaunchStrategy() {
+        super("gio", 310, List.of("gio", "open"));
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return isLinuxLike(os);
+    }
+
+    @Override
+    protected boolean acceptsMultipleUrls() {
+        // gio open takes any number of locations
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decides without AWT whether there is a display to browse with.
+ */
+final class HeadlessCheck {
+
+    private static final String[] CONTAINER_CGROUP_MARKERS = {"docker", "kubepods", "containerd", "lxc"};
+
+    private HeadlessCheck() {
+    }
+
+    /**
+     * @return true if {@code java.awt.Desktop} cannot work here
+     */
+    static boolean isHeadless() {
+        return isHeadless(System::getProperty, System::getenv, HeadlessCheck::isContainer);
+    }
+
+    /**
+     * @param properties looks up system properties
+     * @param environment looks up environment variables
+     * @param inContainer tells whether the JVM runs in a container
+     * @return true if {@code java.awt.headless} is set, or on a Unix-like
+     *     system without {@code DISPLAY} or {@code WAYLAND_DISPLAY}, or in a
+     *     container, which has no desktop integration even with a forwarded display
+     */
+    static boolean isHeadless(UnaryOperator<String> properties, UnaryOperator<String> environment,
+        BooleanSupplier inContainer) {
+        if ("true".equalsIgnoreCase(properties.apply("java.awt.headless"))) {
+            return true;
+        }
+        String os = String.valueOf(properties.apply("os.name")).toLowerCase(Locale.ROOT);
+        if (os.contains("win") || os.contains("mac")) {
+            return false;
+        }
+        if (isEmpty(environment.apply("DISPLAY")) && isEmpty(environment.apply("WAYLAND_DISPLAY"))) {
+            return true;
+        }
+        return inContainer.getAsBoolean();
+    }
+
+    /**
+     * @return true for Docker, Podman, Kubernetes and LXC containers
+     */
+    static boolean isContainer() {
+        if (Files.exists(Paths.get("/.dockerenv")) || Files.exists(Paths.get("/run/.containerenv"))
+            || !isEmpty(System.getenv("container"))) {
+            return true;
+        }
+        Path cgroup = Paths.get("/proc/1/cgroup");
+        if (!Files.isReadable(cgroup)) {
+            return false;
+        }
+        try {
+            String groups = Files.readString(cgroup, StandardCharsets.UTF_8);
+            for (String marker : CONTAINER_CGROUP_MARKERS) {
+                if (groups.contains(marker)) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            // Not knowing means not a container, as far as we can tell
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Finds the {@link LaunchStrategy} to use, once per JVM.
+ *
+ * The first launch loads every strategy, probes them in priority order and
+ * keeps the first available one, or the fact that there is none; later
+ * launches only pay for opening the URLs. Call {@link #reprobe()} when the
+ * environment changes, for example after installing a browser.
+ */
+public final class LaunchStrategies {
+
+    private static final Object LOCK = new Object();
+
+    private static volatile Resolution resolution;
+
+    private LaunchStrategies() {
+    }
+
+    /**
+     * @return the strategy for this JVM, or null if none is available
+     */
+    public static LaunchStrategy get() {
+        Resolution current = resolution;
+        if (current == null) {
+            synchronized (LOCK) {
+                current = resolution;
+                if (current == null) {
+                    current = new Resolution(probe(load()));
+                    resolution = current;
+                }
+            }
+        }
+        return current.strategy;
+    }
+
+    /**
+     * Forgets the chosen strategy; the next launch probes again.
+     */
+    public static void reprobe() {
+        resolution = null;
+    }
+
+    /**
+     * @return every strategy on the class path, in probe order
+     */
+    public static List<LaunchStrategy> load() {
+        List<LaunchStrategy> strategies = new ArrayList<>();
+        Iterator<LaunchStrategy> providers = ServiceLoader.load(LaunchStrategy.class).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                strategies.add(providers.next());
+            } catch (ServiceConfigurationError e) {
+                // One broken provider must not disable the others
+                System.err.println("Skipping launch strategy: " + e.getMessage());
+            }
+        }
+        strategies.sort(Comparator.comparingInt(LaunchStrategy::getPriority));
+        return strategies;
+    }
+
+    private static LaunchStrategy probe(List<LaunchStrategy> strategies) {
+        for (LaunchStrategy strategy : strategies) {
+            try {
+                if (strategy.isAvailable()) {
+                    return strategy;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                System.err.println("Probing launch strategy " + strategy.getName() + " failed: " + e);
+            }
+        }
+        return null;
+    }
+
+    private static final class Resolution {
+
+        private final LaunchStrategy strategy;
+
+        Resolution(LaunchStrategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+}
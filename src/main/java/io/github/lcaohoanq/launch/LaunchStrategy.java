@@ -0,0 +1,42 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * One way of opening URLs in a browser, such as the Desktop API or a
+ * platform command.
+ *
+ * Implementations are found with {@link java.util.ServiceLoader}: list them in
+ * {@code META-INF/services/io.github.lcaohoanq.launch.LaunchStrategy}. They
+ * are probed in ascending {@link #getPriority()} order and the first available
+ * one is used for every launch until {@link LaunchStrategies#reprobe()}.
+ */
+public interface LaunchStrategy {
+
+    /**
+     * @return a short name for log messages
+     */
+    String getName();
+
+    /**
+     * @return the probe order; lower goes first. Strategies that do not
+     *     override this go before every built-in one
+     */
+    default int getPriority() {
+        return 0;
+    }
+
+    /**
+     * Probes whether this strategy can open URLs here. Called once per JVM,
+     * unless re-probed, so it may do some work.
+     * @return true if {@link #open(List)} is expected to work
+     */
+    boolean isAvailable();
+
+    /**
+     * @param urls the URLs to open, in order
+     * @throws IOException if the browser could not be started
+     */
+    void open(List<String> urls) throws IOException;
+}
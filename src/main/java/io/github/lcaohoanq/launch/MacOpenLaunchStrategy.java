@@ -0,0 +1,24 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * {@code open}, the macOS launcher for documents and URLs.
+ */
+public class MacOpenLaunchStrategy extends CommandLaunchStrategy {
+
+    public MacOpenLaunchStrategy() {
+        super("open", 300, List.of("open"));
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return os.contains("mac");
+    }
+
+    @Override
+    protected boolean acceptsMultipleUrls() {
+        // open takes any number of URLs and opens each in the default browser
+        return true;
+    }
+}
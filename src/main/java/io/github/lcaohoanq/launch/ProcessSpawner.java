@@ -0,0 +1,199 @@
+package io.github.lcaohoanq.launch;
+
+import io.github.lcaohoanq.health.LatencyHistogram;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts browser commands and looks after them until they exit.
+ *
+ * Output goes to {@link ProcessBuilder.Redirect#DISCARD} and the child's
+ * standard input is closed at once, so no pipe is left open for the life of
+ * the child. Each child is awaited through {@link Process#onExit()}, which
+ * reaps it without a waiting thread. At most {@code maxConcurrentSpawns}
+ * processes are being started at a time; a spawn beyond that waits for one of
+ * them to be started, up to the acquire timeout, rather than forking a burst
+ * of processes at once. A browser that keeps running once started, such as
+ * Firefox started directly, does not hold back later launches.
+ *
+ * Spawn latency, the time {@link ProcessBuilder#start()} takes, and exit codes
+ * are recorded for monitoring; a non-zero exit is reported on
+ * {@code System.err}.
+ */
+public final class ProcessSpawner {
+
+    private static final ProcessSpawner DEFAULT = new ProcessSpawner(8, Duration.ofSeconds(10));
+
+    private final int maxConcurrentSpawns;
+    private final long acquireTimeoutNanos;
+    private final Semaphore spawning;
+    private final AtomicInteger running = new AtomicInteger();
+    private final LatencyHistogram spawnLatency = new LatencyHistogram();
+    private final AtomicLong spawned = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ConcurrentMap<Integer, AtomicLong> exitCodes = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxConcurrentSpawns how many processes may be being started at once
+     * @param acquireTimeout how long a spawn waits for another one to be started
+     */
+    public ProcessSpawner(int maxConcurrentSpawns, Duration acquireTimeout) {
+        if (maxConcurrentSpawns < 1) {
+            throw new IllegalArgumentException("maxConcurrentSpawns must be positive: " + maxConcurrentSpawns);
+        }
+        this.maxConcurrentSpawns = maxConcurrentSpawns;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.spawning = new Semaphore(maxConcurrentSpawns);
+    }
+
+    /**
+     * @return the spawner used by the built-in command strategies: 8 concurrent spawns, 10 s wait
+     */
+    public static ProcessSpawner getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Starts a command without waiting for it to finish.
+     * @param command the executable and its arguments
+     * @return a future completing with the exit code once the child has exited
+     * @throws IOException if the command could not be started, or no spawn
+     *     slot freed up within the acquire timeout
+     */
+    public CompletableFuture<Integer> spawn(List<String> command) throws IOException {
+        return track(start(command, ProcessBuilder.Redirect.DISCARD), command);
+    }
+
+    /**
+     * Runs a short query command, such as {@code xdg-settings get}, and
+     * returns what it printed.
+     * @param command the executable and its arguments
+     * @param timeout how long to wait for the command to exit
+     * @return the trimmed standard output, or null if the command failed or
+     *     did not exit in time, in which case it is killed
+     * @throws IOException if the command could not be started, or no spawn
+     *     slot freed up within the acquire timeout
+     */
+    public String capture(List<String> command, Duration timeout) throws IOException {
+        Process process = start(command, ProcessBuilder.Redirect.PIPE);
+        CompletableFuture<Integer> exit = track(process, command);
+        try {
+            if (exit.get(timeout.toNanos(), TimeUnit.NANOSECONDS) != 0) {
+                return null;
+            }
+            // Query commands print a line or two, well within the pipe buffer
+            return new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (TimeoutException e) {
+            process.destroyForcibly();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            return null;
+        }
+    }
+
+    private Process start(List<String> command, ProcessBuilder.Redirect output) throws IOException {
+        try {
+            if (!spawning.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                failed.incrementAndGet();
+                throw new IOException("Too many browser processes starting (" + maxConcurrentSpawns
+                    + "), not starting " + command.get(0));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to start " + command.get(0), e);
+        }
+
+        Process process;
+        long startNanos = System.nanoTime();
+        try {
+            process = new ProcessBuilder(command)
+                .redirectOutput(output)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            throw e;
+        } finally {
+            // The slot bounds concurrent forks only, not how long the child runs
+            spawning.release();
+        }
+        spawnLatency.record(Duration.ofNanos(System.nanoTime() - startNanos));
+        spawned.incrementAndGet();
+        running.incrementAndGet();
+        try {
+            process.getOutputStream().close();
+        } catch (IOException e) {
+            // The child may already be gone; its exit is handled by track()
+        }
+        return process;
+    }
+
+    private CompletableFuture<Integer> track(Process process, List<String> command) {
+        return process.onExit().handle((exited, error) -> {
+            running.decrementAndGet();
+            if (error != null) {
+                return -1;
+            }
+            int exitCode = exited.exitValue();
+            exitCodes.computeIfAbsent(exitCode, key -> new AtomicLong()).incrementAndGet();
+            if (exitCode != 0) {
+                System.err.println("Browser command " + command.get(0) + " exited with code " + exitCode);
+            }
+            return exitCode;
+        });
+    }
+
+    /**
+     * @return how many children are running now
+     */
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    /**
+     * @return how many children were started
+     */
+    public long getSpawnCount() {
+        return spawned.get();
+    }
+
+    /**
+     * @return how many spawns failed to start or found no free slot
+     */
+    public long getFailureCount() {
+        return failed.get();
+    }
+
+    /**
+     * @return the time {@link ProcessBuilder#start()} took per child
+     */
+    public LatencyHistogram getSpawnLatency() {
+        return spawnLatency;
+    }
+
+    /**
+     * @return how many children exited with each exit code, by code
+     */
+    public Map<Integer, Long> getExitCodes() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        exitCodes.forEach((exitCode, count) -> counts.put(exitCode, count.get()));
+        return counts;
+    }
+}
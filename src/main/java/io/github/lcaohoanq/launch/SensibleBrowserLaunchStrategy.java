@@ -0,0 +1,18 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * {@code sensible-browser}, the Debian alternative for the preferred browser.
+ */
+public class SensibleBrowserLaunchStrategy extends CommandLaunchStrategy {
+
+    public SensibleBrowserLaunchStrategy() {
+        super("sensible-browser", 320, List.of("sensible-browser"));
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return isLinuxLike(os);
+    }
+}
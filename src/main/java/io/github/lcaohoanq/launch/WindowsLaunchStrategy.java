@@ -0,0 +1,19 @@
+package io.github.lcaohoanq.launch;
+
+import java.util.List;
+
+/**
+ * {@code rundll32 url.dll,FileProtocolHandler}, which hands the URL to the
+ * default browser on Windows.
+ */
+public class WindowsLaunchStrategy extends CommandLaunchStrategy {
+
+    public WindowsLaunchStrategy() {
+        super("rundll32", 300, List.of("rundll32", "url.dll,FileProtocolHandler"));
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return os.contains("win");
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.lcaohoanq.launch;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code xdg-open}, the freedesktop.org way to open a URL on Linux and BSD.
+ *
+ * {@code xdg-open} takes a single URL. To open several with one process, the
+ * default browser is looked up with {@code xdg-settings} when the strategy is
+ * probed; if it is a browser that takes many URLs, such as Firefox or
+ * Chromium, it is started directly with all of them.
+ */
+public class XdgOpenLaunchStrategy extends CommandLaunchStrategy {
+
+    private static final String DESKTOP_ENTRY_SUFFIX = ".desktop";
+
+    private volatile List<String> defaultBrowser;
+
+    public XdgOpenLaunchStrategy() {
+        super("xdg-open", 300, List.of("xdg-open"));
+    }
+
+    @Override
+    protected boolean supportsOs(String os) {
+        return isLinuxLike(os);
+    }
+
+    /**
+     * Also looks up the default browser, so that the launch itself never
+     * waits for {@code xdg-settings}.
+     */
+    @Override
+    public boolean isAvailable() {
+        if (!super.isAvailable()) {
+            return false;
+        }
+        defaultBrowser = lookUpDefaultBrowser();
+        return true;
+    }
+
+    @Override
+    public void open(List<String> urls) throws IOException {
+        List<String> browser = defaultBrowser;
+        if (urls.size() < 2 || browser == null || browser.isEmpty()) {
+            super.open(urls);
+            return;
+        }
+        List<String> commandLine = new ArrayList<>(browser);
+        commandLine.addAll(urls);
+        spawn(commandLine);
+    }
+
+    private List<String> lookUpDefaultBrowser() {
+        String xdgSettings = Executables.resolve("xdg-settings");
+        if (xdgSettings == null) {
+            return List.of();
+        }
+        try {
+            String desktopEntry = spawner().capture(List.of(xdgSettings, "get", "default-web-browser"),
+                Duration.ofSeconds(2));
+            String executable = desktopEntry != null ? executableFor(desktopEntry) : null;
+            return executable != null && Executables.resolve(executable) != null ? List.of(executable) : List.of();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * @param desktopEntry a desktop entry such as {@code firefox.desktop}, or
+     *     {@code firefox_firefox.desktop} for a snap
+     * @return the executable of a browser that takes many URLs, or null
+     */
+    static String executableFor(String desktopEntry) {
+        String name = desktopEntry.toLowerCase(Locale.ROOT);
+        if (!name.endsWith(DESKTOP_ENTRY_SUFFIX)) {
+            return null;
+        }
+        name = name.substring(name.lastIndexOf('_') + 1, name.length() - DESKTOP_ENTRY_SUFFIX.length());
+        return MULTI_URL_BROWSERS.contains(name) ? name : null;
+    }
+}
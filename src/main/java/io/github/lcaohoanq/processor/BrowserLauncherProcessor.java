@@ -1,145 +1,395 @@
 package io.github.lcaohoanq.processor;
 
+import io.github.lcaohoanq.HttpClientProfiles;
 import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.LaunchTrigger;
 import io.github.lcaohoanq.core.JavaBrowserLauncher;
+import io.github.lcaohoanq.health.HealthChecker;
+import io.github.lcaohoanq.health.HealthProbe;
+import io.github.lcaohoanq.health.ReadinessGraph;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
 
-public class BrowserLauncherProcessor implements ApplicationRunner {
+public class BrowserLauncherProcessor implements ApplicationRunner, ApplicationListener<ApplicationEvent> {
+
+    // One background thread, so launches keep their order without holding up startup
+    private static final ThreadPoolExecutor LAUNCH_EXECUTOR = createLaunchExecutor();
+
+    private final Executor launchExecutor;
 
     @Autowired
     private ApplicationContext applicationContext;
 
+    // Reported by SpringApplication before runners are called
+    private Class<?> mainApplicationClass;
+
+    private LaunchPlan launchPlan;
+    private boolean launchPlanResolved;
+
+    // Readiness can be signalled by both the web server and the availability state
+    private final AtomicBoolean readinessLaunched = new AtomicBoolean();
+
+    public BrowserLauncherProcessor() {
+        this(LAUNCH_EXECUTOR);
+    }
+
+    /**
+     * @param launchExecutor runs each launch sequence in submission order
+     */
+    BrowserLauncherProcessor(Executor launchExecutor) {
+        this.launchExecutor = launchExecutor;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationStartedEvent) {
+            this.mainApplicationClass = ((ApplicationStartedEvent) event).getSpringApplication()
+                .getMainApplicationClass();
+        } else if (event instanceof WebServerInitializedEvent) {
+            // The management server runs in a child context with its own namespace
+            String namespace = ((WebServerInitializedEvent) event).getApplicationContext().getServerNamespace();
+            if (!"management".equals(namespace)) {
+                onReady();
+            }
+        } else if (event instanceof AvailabilityChangeEvent
+            && ((AvailabilityChangeEvent<?>) event).getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            onReady();
+        }
+    }
+
     @Override
     public void run(ApplicationArguments args) {
         // System.out.println("BrowserLauncherProcessor started - analyzing application for @BrowserLauncher annotation");
-        
-        // Get main class from Spring Boot application context
-        String mainClassName = null;
+
+        try {
+            LaunchPlan plan = getLaunchPlan();
+            if (plan != null && plan.getTrigger() == LaunchTrigger.APPLICATION_RUNNER) {
+                awaitLaunch(CompletableFuture.runAsync(() -> launchSafely(plan), launchExecutor), plan);
+            }
+        } catch (Exception e) {
+            System.err.println("Error in browser launcher processor: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Holds the runner for at most {@link LaunchPlan#getStartupWaitSeconds()};
+     * the launch itself carries on in the background either way.
+     */
+    private static void awaitLaunch(CompletableFuture<Void> launch, LaunchPlan plan) throws InterruptedException {
+        if (plan.getStartupWaitSeconds() <= 0) {
+            return;
+        }
+        try {
+            launch.get(plan.getStartupWaitSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            System.out.println("Browser launch still running after " + plan.getStartupWaitSeconds()
+                + "s, continuing startup");
+        } catch (ExecutionException e) {
+            // launchSafely reports its own failures
+        }
+    }
+
+    private void launchSafely(LaunchPlan plan) {
+        try {
+            launch(plan);
+        } catch (Exception e) {
+            System.err.println("Error in browser launcher processor: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Opens the URLs of a {@link LaunchTrigger#READINESS} plan without probing
+     * the application: the event itself proves it is up. Readiness nodes and
+     * per-URL endpoints may point elsewhere, so their graph is still polled
+     * and their URLs open as their nodes get healthy. Both run on the launch
+     * executor, since the web server event arrives on the startup thread.
+     */
+    private void onReady() {
         try {
-            // Look for the main application class in the context
-            // The main class is typically the one with @SpringBootApplication
-            String[] beanNames = applicationContext.getBeanNamesForType(Object.class);
-            for (String beanName : beanNames) {
-                Object bean = applicationContext.getBean(beanName);
-                Class<?> beanClass = bean.getClass();
-                
-                // Handle CGLIB proxies - get the original class
-                if (beanClass.getName().contains("$$")) {
-                    // This is a CGLIB proxy, get the superclass
-                    beanClass = beanClass.getSuperclass();
+            LaunchPlan plan = getLaunchPlan();
+            if (plan == null || plan.getTrigger() != LaunchTrigger.READINESS) {
+                return;
+            }
+            if (readinessLaunched.compareAndSet(false, true) && isLaunchable(plan)) {
+                // URLs owned by a readiness node open with that node only
+                List<String> urls = new ArrayList<>(plan.getUrls());
+                urls.removeAll(plan.getReadinessUrls());
+                if (!urls.isEmpty()) {
+                    launchExecutor.execute(() -> openUrlsSafely(urls));
                 }
-                
-                // Check if this is likely the main application class
-                if (beanClass.getAnnotation(org.springframework.boot.autoconfigure.SpringBootApplication.class) != null) {
-                    mainClassName = beanClass.getName();
-                    break;
+                if (!plan.getReadinessNodes().isEmpty()) {
+                    launchExecutor.execute(() -> launchReadinessSafely(plan));
                 }
             }
         } catch (Exception e) {
-            // System.out.println("Could not get main class from Spring context, trying stack trace approach: " + e.getMessage());
+            System.err.println("Error in browser launcher processor: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void openUrlsSafely(List<String> urls) {
+        try {
+            openUrls(urls);
+        } catch (Exception e) {
+            System.err.println("Error in browser launcher processor: " + e.getMessage());
             e.printStackTrace();
         }
-        
-        // Fallback to stack trace approach if Spring context approach fails
-        if (mainClassName == null) {
-            StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-            mainClassName = Arrays.stream(stackTrace)
-                .filter(element -> "main".equals(element.getMethodName()))
-                .findFirst()
-                .map(StackTraceElement::getClassName)
-                .orElse(null);
+    }
+
+    private void launchReadinessSafely(LaunchPlan plan) {
+        HttpClientProfiles.REMOTE.retain();
+        HttpClientProfiles.LOOPBACK.retain();
+        CompletableFuture<Void> launched = CompletableFuture.completedFuture(null);
+        try {
+            launched = launchReadinessGraph(plan);
+            if (!plan.isAsync()) {
+                launched.join();
+            }
+        } catch (Exception e) {
+            System.err.println("Error in browser launcher processor: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            launched.whenComplete((result, error) -> {
+                HttpClientProfiles.REMOTE.release();
+                HttpClientProfiles.LOOPBACK.release();
+            });
         }
+    }
 
-        // System.out.println("Main class detected: " + mainClassName);
-        
-        if (mainClassName == null) {
+    private synchronized LaunchPlan getLaunchPlan() {
+        if (!launchPlanResolved) {
+            launchPlan = resolveLaunchPlan();
+            if (launchPlan != null && applicationContext != null) {
+                // Nodes from browser-launcher.readiness.* extend or override the declared graph
+                launchPlan = launchPlan.withReadinessNodes(
+                    ReadinessProperties.bind(applicationContext.getEnvironment()));
+            }
+            // The web server can start before the main class is known; resolve again once it is
+            launchPlanResolved = mainApplicationClass != null;
+        }
+        return launchPlan;
+    }
+
+    /**
+     * Prefers the descriptor written by the build-time annotation processor,
+     * and only falls back to main-class discovery and reflection without it.
+     */
+    LaunchPlan resolveLaunchPlan() {
+        ClassLoader classLoader = applicationContext != null && applicationContext.getClassLoader() != null
+            ? applicationContext.getClassLoader()
+            : ClassUtils.getDefaultClassLoader();
+        // Resolve the main class from metadata only; no bean is instantiated here
+        MainClassResolver mainClassResolver = new MainClassResolver(applicationContext, mainApplicationClass);
+        LaunchPlan descriptor;
+        try {
+            descriptor = LaunchPlan.loadDescriptor(classLoader,
+                mainApplicationClass != null ? mainApplicationClass.getName() : null);
+        } catch (IllegalStateException e) {
+            // Dependencies ship descriptors too; only the main class tells which one is ours
+            Class<?> mainClass = mainClassResolver.resolve();
+            if (mainClass == null) {
+                System.err.println(e.getMessage());
+                return null;
+            }
+            descriptor = LaunchPlan.loadDescriptor(classLoader, mainClass.getName());
+        }
+        if (descriptor != null) {
+            return descriptor;
+        }
+
+        Class<?> mainClass = mainClassResolver.resolve();
+
+        // System.out.println("Main class detected: " + mainClass);
+
+        if (mainClass == null) {
             System.out.println("Could not find main class for browser launcher");
+            return null;
+        }
+
+        BrowserLauncher annotation = AnnotationUtils.findAnnotation(mainClass, BrowserLauncher.class);
+
+        // System.out.println("Annotation found: " + (annotation != null));
+
+        if (annotation == null) {
+            // System.out.println("No @BrowserLauncher annotation found on main class");
+            return null;
+        }
+        return LaunchPlan.fromAnnotation(mainClass.getName(), annotation);
+    }
+
+    private boolean isLaunchable(LaunchPlan plan) {
+        List<String> activeProfiles = Arrays.asList(
+            System.getProperty("spring.profiles.active", "").split(","));
+
+        // System.out.println("Active profiles: " + activeProfiles);
+        // System.out.println("Excluded profiles: " + plan.getExcludeProfiles());
+
+        if (plan.isExcluded(activeProfiles)) {
+            // System.out.println("Skipping browser launch due to profile exclusion: " + activeProfiles);
+            return false;
+        }
+
+        if (plan.getUrls().isEmpty() && plan.getReadinessUrls().isEmpty()) {
+            System.err.println("No URLs specified in @BrowserLauncher annotation");
+            return false;
+        }
+
+        // Resolved once per JVM; failing here spares the health checks of a launch that cannot happen
+        if (LaunchStrategies.get() == null) {
+            System.err.println("No way to open a browser on " + System.getProperty("os.name")
+                + ", skipping browser launch");
+            return false;
+        }
+        return true;
+    }
+
+    private void openUrls(List<String> urls) {
+        JavaBrowserLauncher.openHomePage(urlArgument(urls));
+    }
+
+    // JavaBrowserLauncher takes either a single String or a List<String>
+    private static Object urlArgument(List<String> urls) {
+        return urls.size() == 1 ? urls.get(0) : urls;
+    }
+
+    /**
+     * Endpoints served by this very application are evaluated in-process
+     * through Actuator; anything else goes over HTTP.
+     */
+    private HealthChecker healthCheckerFor(List<String> healthCheckEndpoints) {
+        HealthChecker healthChecker = HealthChecker.getDefault();
+        for (String endpoint : healthCheckEndpoints) {
+            HealthProbe localProbe = LocalHealthEndpoint.probeFor(applicationContext, endpoint);
+            if (localProbe != null) {
+                healthChecker = healthChecker.withProbe(endpoint, localProbe);
+            }
+        }
+        return healthChecker;
+    }
+
+    private void launch(LaunchPlan plan) {
+        if (!isLaunchable(plan)) {
             return;
         }
 
+        // The HTTP clients outlive the individual polls of this launch, and go once it is over
+        HttpClientProfiles.REMOTE.retain();
+        HttpClientProfiles.LOOPBACK.retain();
+        CompletableFuture<Void> launched = CompletableFuture.completedFuture(null);
         try {
-            Class<?> mainClass = Class.forName(mainClassName);
-            BrowserLauncher annotation = AnnotationUtils.findAnnotation(mainClass, BrowserLauncher.class);
-
-            // System.out.println("Annotation found: " + (annotation != null));
-            
-            if (annotation != null) {
-                String[] activeProfiles = System.getProperty("spring.profiles.active", "")
-                    .split(",");
-                
-                // System.out.println("Active profiles: " + Arrays.toString(activeProfiles));
-                // System.out.println("Excluded profiles: " + Arrays.toString(annotation.excludeProfiles()));
-
-                boolean excluded = Arrays.stream(annotation.excludeProfiles())
-                    .anyMatch(p -> Arrays.asList(activeProfiles).contains(p));
-
-                if (!excluded) {
-                    // Smart URL extraction: prioritize value() > url() > urls()
-                    List<String> urlList = new ArrayList<>();
-                    
-                    // Check value() first (primary single URL)
-                    if (!annotation.value().isEmpty()) {
-                        urlList.add(annotation.value());
-                    }
-                    // Check url() second (alternative single URL)
-                    else if (!annotation.url().isEmpty()) {
-                        urlList.add(annotation.url());
-                    }
-                    // Check urls() last (multiple URLs)
-                    else if (annotation.urls().length > 0) {
-                        urlList.addAll(Arrays.asList(annotation.urls()));
-                    }
-                    
-                    if (urlList.isEmpty()) {
-                        System.err.println("No URLs specified in @BrowserLauncher annotation");
-                        return;
-                    }
-                    
-                    String[] urls = urlList.toArray(new String[0]);
-                    String healthCheckEndpoint = annotation.healthCheckEndpoint();
-
-                    // Convert array to list for JavaBrowserLauncher
-                    List<String> urlsAsList = Arrays.asList(urls);
-
-                    if (healthCheckEndpoint.isEmpty()) {
-                        // No health check, open URLs directly
-                        if (urls.length == 1) {
-                            JavaBrowserLauncher.openHomePage(urls[0]);
-                        } else {
-                            JavaBrowserLauncher.openHomePage(urlsAsList);
-                        }
-                    } else {
-                        // With health check
-                        if (annotation.async()) {
-                            // For multiple URLs with health check async, we'll open them one by one
-                            for (String url : urls) {
-                                JavaBrowserLauncher.doHealthCheckThenOpenHomePageAsync(healthCheckEndpoint, url);
-                            }
-                        } else {
-                            // For multiple URLs with health check sync, we'll open them one by one
-                            for (String url : urls) {
-                                JavaBrowserLauncher.doHealthCheckThenOpenHomePage(healthCheckEndpoint, url);
-                            }
-                        }
-                    }
-                    
-                    // System.out.println("Browser launcher executed for " + urls.length + " URL(s)");
-                } else {
-                    // System.out.println("Skipping browser launch due to profile exclusion: " + Arrays.toString(activeProfiles));
-                }
+            CompletableFuture<Void> readinessLaunch = launchReadinessGraph(plan);
+
+            // URLs owned by a readiness node open with that node only
+            List<String> urls = new ArrayList<>(plan.getUrls());
+            urls.removeAll(plan.getReadinessUrls());
+            CompletableFuture<Void> urlsLaunch = urls.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : launchUrls(plan, urls);
+
+            if (!plan.isAsync()) {
+                readinessLaunch.join();
+            }
+            launched = CompletableFuture.allOf(readinessLaunch, urlsLaunch);
+        } finally {
+            launched.whenComplete((result, error) -> {
+                HttpClientProfiles.REMOTE.release();
+                HttpClientProfiles.LOOPBACK.release();
+            });
+        }
+
+        // System.out.println("Browser launcher executed for " + urls.size() + " URL(s)");
+    }
+
+    /**
+     * Starts the readiness graph, if any; every node's URLs open on their own
+     * as soon as that node's part of the graph is healthy.
+     */
+    private CompletableFuture<Void> launchReadinessGraph(LaunchPlan plan) {
+        if (plan.getReadinessNodes().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ReadinessGraph readinessGraph;
+        try {
+            readinessGraph = new ReadinessGraph(plan.getReadinessNodes());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid readiness graph: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+        HealthChecker healthChecker = healthCheckerFor(readinessGraph.getNodes().stream()
+            .map(ReadinessGraph.Node::getEndpoint)
+            .collect(Collectors.toList()));
+        return JavaBrowserLauncher.doReadinessGraphThenOpenHomePagesAsync(
+            healthChecker, readinessGraph, plan.getRetryPolicy());
+    }
+
+    private CompletableFuture<Void> launchUrls(LaunchPlan plan, List<String> urls) {
+        List<String> healthCheckEndpoints = plan.getHealthCheckEndpoints();
+
+        if (healthCheckEndpoints.isEmpty()) {
+            // No health check, open URLs directly
+            openUrls(urls);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HealthChecker healthChecker = healthCheckerFor(healthCheckEndpoints);
+        if (healthCheckEndpoints.size() == 1) {
+            // With health check: one probe for the endpoint, fanned out to every URL
+            String healthCheckEndpoint = healthCheckEndpoints.get(0);
+            if (plan.isAsync()) {
+                return JavaBrowserLauncher.doHealthCheckThenOpenHomePageAsync(
+                    healthChecker, healthCheckEndpoint, urlArgument(urls), plan.getRetryPolicy());
             } else {
-                // System.out.println("No @BrowserLauncher annotation found on main class");
+                JavaBrowserLauncher.doHealthCheckThenOpenHomePage(
+                    healthChecker, healthCheckEndpoint, urlArgument(urls), plan.getRetryPolicy());
+            }
+        } else {
+            // Several endpoints: probed in parallel and gated all / any / quorum
+            if (plan.isAsync()) {
+                return JavaBrowserLauncher.doHealthGateThenOpenHomePageAsync(healthChecker, healthCheckEndpoints,
+                    plan.getRequiredHealthyCount(), urlArgument(urls), plan.getRetryPolicy());
+            } else {
+                JavaBrowserLauncher.doHealthGateThenOpenHomePage(healthChecker, healthCheckEndpoints,
+                    plan.getRequiredHealthyCount(), urlArgument(urls), plan.getRetryPolicy());
             }
-        } catch (Exception e) {
-            System.err.println("Error in browser launcher processor: " + e.getMessage());
-            e.printStackTrace();
         }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static ThreadPoolExecutor createLaunchExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "browser-launcher");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        // No resident thread once the browser is open
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 }
@@ -0,0 +1,416 @@
+package io.github.lcaohoanq.processor;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.HealthGate;
+import io.github.lcaohoanq.annotations.LaunchTrigger;
+import io.github.lcaohoanq.annotations.ReadinessNode;
+import io.github.lcaohoanq.health.ReadinessGraph;
+import io.github.lcaohoanq.health.RetryPolicy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolved {@link BrowserLauncher} settings for one application.
+ *
+ * A plan is built either from the annotation at runtime or from the descriptor
+ * that {@code BrowserLauncherAnnotationProcessor} writes at build time under
+ * {@link #DESCRIPTOR_LOCATION}.
+ */
+public final class LaunchPlan {
+
+    /**
+     * Classpath location of the build-time launch descriptor.
+     */
+    public static final String DESCRIPTOR_LOCATION = "META-INF/browser-launcher/launch-plan.properties";
+
+    /**
+     * Name prefix of the readiness nodes built from {@link BrowserLauncher#urlHealthCheckEndpoints()}.
+     */
+    public static final String URL_NODE_PREFIX = "url:";
+
+    private final String mainClassName;
+    private final List<String> urls;
+    private final List<String> healthCheckEndpoints;
+    private final HealthGate healthGate;
+    private final int healthCheckQuorum;
+    private final int healthCheckDeadlineSeconds;
+    private final List<ReadinessGraph.Node> readinessNodes;
+    private final List<String> excludeProfiles;
+    private final boolean async;
+    private final int startupWaitSeconds;
+    private final LaunchTrigger trigger;
+
+    public LaunchPlan(String mainClassName, List<String> urls, List<String> healthCheckEndpoints,
+        HealthGate healthGate, int healthCheckQuorum, int healthCheckDeadlineSeconds,
+        List<ReadinessGraph.Node> readinessNodes, List<String> excludeProfiles, boolean async, int startupWaitSeconds,
+        LaunchTrigger trigger) {
+        if (healthGate == HealthGate.QUORUM && (healthCheckQuorum < 0 || healthCheckQuorum > healthCheckEndpoints.size())) {
+            throw new IllegalArgumentException("healthCheckQuorum must be between 1 and the number of health check "
+                + "endpoints (" + healthCheckEndpoints.size() + "), or 0 for a majority: " + healthCheckQuorum);
+        }
+        this.mainClassName = mainClassName;
+        this.urls = Collections.unmodifiableList(new ArrayList<>(urls));
+        this.healthCheckEndpoints = Collections.unmodifiableList(new ArrayList<>(healthCheckEndpoints));
+        this.healthGate = healthGate == null ? HealthGate.ALL : healthGate;
+        this.healthCheckQuorum = healthCheckQuorum;
+        this.healthCheckDeadlineSeconds = healthCheckDeadlineSeconds;
+        this.readinessNodes = Collections.unmodifiableList(new ArrayList<>(readinessNodes));
+        this.excludeProfiles = Collections.unmodifiableList(new ArrayList<>(excludeProfiles));
+        this.async = async;
+        this.startupWaitSeconds = startupWaitSeconds;
+        this.trigger = trigger == null ? LaunchTrigger.APPLICATION_RUNNER : trigger;
+    }
+
+    /**
+     * Builds a plan from an annotation instance.
+     * Smart URL extraction: prioritize value() &gt; url() &gt; urls()
+     * @param mainClassName the annotated class name
+     * @param annotation the annotation to read
+     * @return the plan
+     */
+    public static LaunchPlan fromAnnotation(String mainClassName, BrowserLauncher annotation) {
+        List<String> urlList = new ArrayList<>();
+
+        // Check value() first (primary single URL)
+        if (!annotation.value().isEmpty()) {
+            urlList.add(annotation.value());
+        }
+        // Check url() second (alternative single URL)
+        else if (!annotation.url().isEmpty()) {
+            urlList.add(annotation.url());
+        }
+        // Check urls() last (multiple URLs)
+        else if (annotation.urls().length > 0) {
+            urlList.addAll(Arrays.asList(annotation.urls()));
+        }
+
+        // healthCheckEndpoint first, then healthCheckEndpoints, without duplicates
+        Set<String> endpoints = new LinkedHashSet<>();
+        if (!annotation.healthCheckEndpoint().isEmpty()) {
+            endpoints.add(annotation.healthCheckEndpoint());
+        }
+        for (String endpoint : annotation.healthCheckEndpoints()) {
+            if (!endpoint.isEmpty()) {
+                endpoints.add(endpoint);
+            }
+        }
+
+        List<ReadinessGraph.Node> nodes = new ArrayList<>();
+        for (ReadinessNode node : annotation.readiness()) {
+            nodes.add(new ReadinessGraph.Node(node.name(), node.endpoint(), Arrays.asList(node.dependsOn()),
+                Arrays.asList(node.urls())));
+        }
+        // A URL with its own endpoint is a one-node graph, so it opens without waiting for the others.
+        // A URL listed twice opens once, with the first endpoint given for it.
+        String[] urlEndpoints = annotation.urlHealthCheckEndpoints();
+        Map<String, String> endpointByUrl = new LinkedHashMap<>();
+        for (int i = 0; i < urlList.size(); i++) {
+            String urlEndpoint = i < urlEndpoints.length ? urlEndpoints[i] : "";
+            endpointByUrl.merge(urlList.get(i), urlEndpoint, (first, later) -> first.isEmpty() ? later : first);
+        }
+        urlList = new ArrayList<>(endpointByUrl.keySet());
+        endpointByUrl.forEach((url, urlEndpoint) -> {
+            if (!urlEndpoint.isEmpty()) {
+                nodes.add(new ReadinessGraph.Node(URL_NODE_PREFIX + url, urlEndpoint,
+                    Collections.emptyList(), List.of(url)));
+            }
+        });
+
+        return new LaunchPlan(mainClassName, urlList, new ArrayList<>(endpoints), annotation.healthGate(),
+            annotation.healthCheckQuorum(), annotation.healthCheckDeadlineSeconds(), nodes,
+            Arrays.asList(annotation.excludeProfiles()), annotation.async(), annotation.startupWaitSeconds(),
+            annotation.trigger());
+    }
+
+    /**
+     * Loads the build-time descriptor from the given class loader.
+     * @param classLoader the class loader to search
+     * @return the plan, or null if no descriptor is present
+     * @throws IllegalStateException if there are several descriptors
+     */
+    public static LaunchPlan loadDescriptor(ClassLoader classLoader) {
+        return loadDescriptor(classLoader, null);
+    }
+
+    /**
+     * Loads the build-time descriptor of an application. Every jar built with
+     * the annotation processor carries a descriptor at the same location, so a
+     * dependency's descriptor must not be taken for the application's own.
+     * @param classLoader the class loader to search
+     * @param mainClassName the application's main class, or null if unknown
+     * @return the descriptor written for the main class, or the only descriptor
+     *     if the main class is unknown, or null if there is none
+     * @throws IllegalStateException if the main class is unknown and there are
+     *     several descriptors
+     */
+    public static LaunchPlan loadDescriptor(ClassLoader classLoader, String mainClassName) {
+        if (classLoader == null) {
+            return null;
+        }
+        List<URL> resources;
+        try {
+            resources = Collections.list(classLoader.getResources(DESCRIPTOR_LOCATION));
+        } catch (IOException e) {
+            System.err.println("Could not look up launch descriptors: " + e.getMessage());
+            return null;
+        }
+        if (resources.isEmpty()) {
+            return null;
+        }
+        if (mainClassName == null && resources.size() > 1) {
+            throw new IllegalStateException("Found " + resources.size() + " launch descriptors and cannot tell "
+                + "which belongs to the application: " + resources);
+        }
+
+        for (URL resource : resources) {
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                System.err.println("Could not read launch descriptor " + resource + ": " + e.getMessage());
+                continue;
+            }
+            if (mainClassName == null || mainClassName.equals(properties.getProperty("main-class"))) {
+                return fromProperties(properties);
+            }
+        }
+        return null;
+    }
+
+    static LaunchPlan fromProperties(Properties properties) {
+        List<String> urlList = new ArrayList<>();
+        for (int i = 0; properties.containsKey("url." + i); i++) {
+            urlList.add(properties.getProperty("url." + i));
+        }
+
+        List<String> endpointList = new ArrayList<>();
+        for (int i = 0; properties.containsKey("health-check-endpoint." + i); i++) {
+            endpointList.add(properties.getProperty("health-check-endpoint." + i));
+        }
+        // Descriptors written before multi-endpoint support
+        String legacyEndpoint = properties.getProperty("health-check-endpoint", "");
+        if (endpointList.isEmpty() && !legacyEndpoint.isEmpty()) {
+            endpointList.add(legacyEndpoint);
+        }
+
+        List<ReadinessGraph.Node> nodes = new ArrayList<>();
+        for (int i = 0; properties.containsKey("readiness." + i + ".name"); i++) {
+            String prefix = "readiness." + i + ".";
+            String dependsOn = properties.getProperty(prefix + "depends-on", "");
+            List<String> nodeUrls = new ArrayList<>();
+            for (int j = 0; properties.containsKey(prefix + "url." + j); j++) {
+                nodeUrls.add(properties.getProperty(prefix + "url." + j));
+            }
+            nodes.add(new ReadinessGraph.Node(properties.getProperty(prefix + "name"),
+                properties.getProperty(prefix + "endpoint", ""),
+                dependsOn.isEmpty() ? Collections.emptyList() : Arrays.asList(dependsOn.split(",")),
+                nodeUrls));
+        }
+
+        String profiles = properties.getProperty("exclude-profiles", "");
+        List<String> profileList = profiles.isEmpty()
+            ? Collections.emptyList()
+            : Arrays.asList(profiles.split(","));
+
+        return new LaunchPlan(
+            properties.getProperty("main-class"),
+            urlList,
+            endpointList,
+            HealthGate.valueOf(properties.getProperty("health-gate", HealthGate.ALL.name())),
+            Integer.parseInt(properties.getProperty("health-check-quorum", "0")),
+            Integer.parseInt(properties.getProperty("health-check-deadline-seconds", "0")),
+            nodes,
+            profileList,
+            Boolean.parseBoolean(properties.getProperty("async", "false")),
+            Integer.parseInt(properties.getProperty("startup-wait-seconds", "0")),
+            LaunchTrigger.valueOf(properties.getProperty("trigger", LaunchTrigger.APPLICATION_RUNNER.name())));
+    }
+
+    /**
+     * Renders the plan in descriptor format, without the timestamp header
+     * {@link Properties#store} would add, so builds stay reproducible.
+     * @return the descriptor content
+     */
+    public String toDescriptor() {
+        Properties properties = new Properties();
+        if (mainClassName != null) {
+            properties.setProperty("main-class", mainClassName);
+        }
+        for (int i = 0; i < urls.size(); i++) {
+            properties.setProperty("url." + i, urls.get(i));
+        }
+        for (int i = 0; i < healthCheckEndpoints.size(); i++) {
+            properties.setProperty("health-check-endpoint." + i, healthCheckEndpoints.get(i));
+        }
+        properties.setProperty("health-gate", healthGate.name());
+        properties.setProperty("health-check-quorum", String.valueOf(healthCheckQuorum));
+        properties.setProperty("health-check-deadline-seconds", String.valueOf(healthCheckDeadlineSeconds));
+        for (int i = 0; i < readinessNodes.size(); i++) {
+            ReadinessGraph.Node node = readinessNodes.get(i);
+            String prefix = "readiness." + i + ".";
+            properties.setProperty(prefix + "name", node.getName());
+            properties.setProperty(prefix + "endpoint", node.getEndpoint());
+            properties.setProperty(prefix + "depends-on", String.join(",", node.getDependsOn()));
+            for (int j = 0; j < node.getUrls().size(); j++) {
+                properties.setProperty(prefix + "url." + j, node.getUrls().get(j));
+            }
+        }
+        properties.setProperty("exclude-profiles", String.join(",", excludeProfiles));
+        properties.setProperty("async", String.valueOf(async));
+        properties.setProperty("startup-wait-seconds", String.valueOf(startupWaitSeconds));
+        properties.setProperty("trigger", trigger.name());
+
+        StringWriter writer = new StringWriter();
+        try {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.stream(writer.toString().split("\\R"))
+            .filter(line -> !line.startsWith("#"))
+            .sorted()
+            .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    /**
+     * @return the descriptor content as UTF-8 bytes
+     */
+    public byte[] toDescriptorBytes() {
+        return toDescriptor().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks the plan against the active Spring profiles.
+     * @param activeProfiles the active profile names
+     * @return true if any active profile is excluded
+     */
+    public boolean isExcluded(List<String> activeProfiles) {
+        return excludeProfiles.stream().anyMatch(activeProfiles::contains);
+    }
+
+    public String getMainClassName() {
+        return mainClassName;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * @return the first health check endpoint, or "" if there is none
+     */
+    public String getHealthCheckEndpoint() {
+        return healthCheckEndpoints.isEmpty() ? "" : healthCheckEndpoints.get(0);
+    }
+
+    public List<String> getHealthCheckEndpoints() {
+        return healthCheckEndpoints;
+    }
+
+    public HealthGate getHealthGate() {
+        return healthGate;
+    }
+
+    public int getHealthCheckQuorum() {
+        return healthCheckQuorum;
+    }
+
+    /**
+     * @return how many health check endpoints must be healthy under the gate;
+     *     a quorum of 0 means a majority
+     */
+    public int getRequiredHealthyCount() {
+        switch (healthGate) {
+            case ANY:
+                return Math.min(1, healthCheckEndpoints.size());
+            case QUORUM:
+                return healthCheckQuorum > 0
+                    ? healthCheckQuorum
+                    : Math.min(healthCheckEndpoints.size() / 2 + 1, healthCheckEndpoints.size());
+            default:
+                return healthCheckEndpoints.size();
+        }
+    }
+
+    public int getHealthCheckDeadlineSeconds() {
+        return healthCheckDeadlineSeconds;
+    }
+
+    /**
+     * @return how the health check endpoint is polled
+     */
+    public RetryPolicy getRetryPolicy() {
+        return healthCheckDeadlineSeconds > 0
+            ? RetryPolicy.withDeadline(Duration.ofSeconds(healthCheckDeadlineSeconds))
+            : RetryPolicy.none();
+    }
+
+    public List<ReadinessGraph.Node> getReadinessNodes() {
+        return readinessNodes;
+    }
+
+    /**
+     * @return every URL opened by a readiness node
+     */
+    public List<String> getReadinessUrls() {
+        return readinessNodes.stream()
+            .flatMap(node -> node.getUrls().stream())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @param nodes the nodes to add; a node replaces a declared node of the same name
+     * @return a copy of this plan with the given readiness nodes merged in
+     */
+    public LaunchPlan withReadinessNodes(List<ReadinessGraph.Node> nodes) {
+        if (nodes.isEmpty()) {
+            return this;
+        }
+        Map<String, ReadinessGraph.Node> merged = new LinkedHashMap<>();
+        for (ReadinessGraph.Node node : readinessNodes) {
+            merged.put(node.getName(), node);
+        }
+        for (ReadinessGraph.Node node : nodes) {
+            merged.put(node.getName(), node);
+        }
+        return new LaunchPlan(mainClassName, urls, healthCheckEndpoints, healthGate, healthCheckQuorum,
+            healthCheckDeadlineSeconds, new ArrayList<>(merged.values()), excludeProfiles, async, startupWaitSeconds,
+            trigger);
+    }
+
+    public List<String> getExcludeProfiles() {
+        return excludeProfiles;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return how long startup may wait for a synchronous launch, in seconds
+     */
+    public int getStartupWaitSeconds() {
+        return startupWaitSeconds;
+    }
+
+    public LaunchTrigger getTrigger() {
+        return trigger;
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.lcaohoanq.processor;
+
+import io.github.lcaohoanq.health.HealthCheckResult;
+import io.github.lcaohoanq.health.HealthProbe;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Recognises a health check endpoint that points back at this application and
+ * evaluates it through the Actuator {@link HealthEndpoint} bean instead of HTTP.
+ *
+ * Actuator is an optional dependency: its types are only touched once
+ * {@link #probeFor} has confirmed they are on the classpath.
+ */
+final class LocalHealthEndpoint {
+
+    private static final String HEALTH_ENDPOINT_CLASS = "org.springframework.boot.actuate.health.HealthEndpoint";
+
+    private LocalHealthEndpoint() {
+    }
+
+    /**
+     * @param context the running application
+     * @param endpoint the configured health check URL
+     * @return an in-process probe, or null if the endpoint must be checked over HTTP
+     */
+    static HealthProbe probeFor(ApplicationContext context, String endpoint) {
+        if (context == null || !ClassUtils.isPresent(HEALTH_ENDPOINT_CLASS, context.getClassLoader())) {
+            return null;
+        }
+        String healthPath = healthPathFor(context.getEnvironment(), endpoint);
+        if (healthPath == null) {
+            return null;
+        }
+        return ActuatorProbe.create(context, healthPath);
+    }
+
+    /**
+     * Matches the endpoint against the local server or management server, and
+     * the Actuator base path and health mapping.
+     * @param environment the application environment
+     * @param endpoint the configured health check URL
+     * @return the path below the health endpoint ("" for the endpoint itself,
+     *     e.g. "readiness" for a group), or null if the endpoint is not this application's
+     */
+    static String healthPathFor(Environment environment, String endpoint) {
+        URI uri;
+        try {
+            uri = URI.create(endpoint);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (uri.getHost() == null || uri.getPort() == -1 || !isLocalHost(environment, uri.getHost())) {
+            return null;
+        }
+
+        Integer serverPort = environment.getProperty("local.server.port", Integer.class);
+        Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+        String prefix;
+        if (managementPort != null && managementPort == uri.getPort()) {
+            prefix = environment.getProperty("management.server.base-path", "");
+        } else if (serverPort != null && serverPort == uri.getPort()) {
+            prefix = environment.getProperty("server.servlet.context-path",
+                environment.getProperty("spring.webflux.base-path", ""));
+        } else {
+            return null;
+        }
+
+        String healthPath = trimSlashes(prefix + "/"
+            + environment.getProperty("management.endpoints.web.base-path", "/actuator") + "/"
+            + environment.getProperty("management.endpoints.web.path-mapping.health", "health"));
+        String path = trimSlashes(uri.getPath() == null ? "" : uri.getPath());
+        if (path.equals(healthPath)) {
+            return "";
+        }
+        if (path.startsWith(healthPath + "/")) {
+            return path.substring(healthPath.length() + 1);
+        }
+        return null;
+    }
+
+    private static boolean isLocalHost(Environment environment, String host) {
+        String bareHost = host.startsWith("[") ? host.substring(1, host.length() - 1) : host;
+        if (bareHost.equalsIgnoreCase("localhost") || bareHost.equals(environment.getProperty("server.address"))) {
+            return true;
+        }
+        // Only literals: a host name would cost a DNS lookup on every startup
+        if (!Character.isDigit(bareHost.charAt(0)) && !bareHost.contains(":")) {
+            return false;
+        }
+        try {
+            InetAddress address = InetAddress.getByName(bareHost);
+            return address.isLoopbackAddress() || address.isAnyLocalAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static String trimSlashes(String path) {
+        return path.replaceAll("/{2,}", "/").replaceAll("^/|/$", "");
+    }
+
+    /**
+     * Holds every reference to Actuator types, so this class only loads them
+     * once they are known to be present.
+     */
+    private static final class ActuatorProbe {
+
+        static HealthProbe create(ApplicationContext context, String healthPath) {
+            HealthEndpoint healthEndpoint = context.getBeanProvider(HealthEndpoint.class).getIfAvailable();
+            if (healthEndpoint == null) {
+                return null;
+            }
+            return url -> CompletableFuture.completedFuture(evaluate(healthEndpoint, healthPath, url));
+        }
+
+        /**
+         * Maps the status the way Actuator's HTTP endpoint does by default:
+         * DOWN and OUT_OF_SERVICE answer 503, anything else 200.
+         */
+        private static HealthCheckResult evaluate(HealthEndpoint healthEndpoint, String healthPath, String url) {
+            try {
+                HealthComponent health = healthPath.isEmpty()
+                    ? healthEndpoint.health()
+                    : healthEndpoint.healthForPath(healthPath.split("/"));
+                if (health == null) {
+                    return HealthCheckResult.ofStatus(url, 404);
+                }
+                Status status = health.getStatus();
+                boolean unavailable = Status.DOWN.equals(status) || Status.OUT_OF_SERVICE.equals(status);
+                return HealthCheckResult.ofStatus(url, unavailable ? 503 : 200);
+            } catch (RuntimeException e) {
+                return HealthCheckResult.ofError(url, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.lcaohoanq.processor;
+
+import java.util.Arrays;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the Spring Boot main application class without creating any beans.
+ *
+ * Resolution order:
+ * <ol>
+ *   <li>the main application class reported by {@code SpringApplication}, if it is annotated</li>
+ *   <li>bean definitions carrying {@link SpringBootApplication}, matched on metadata only</li>
+ *   <li>a walk of the current thread's stack for a {@code main} frame</li>
+ * </ol>
+ */
+public class MainClassResolver {
+
+    private final ListableBeanFactory beanFactory;
+    private final Class<?> mainApplicationClass;
+
+    /**
+     * @param beanFactory the context or bean factory to inspect, may be null
+     * @param mainApplicationClass the class reported by {@code SpringApplication}, may be null
+     */
+    public MainClassResolver(ListableBeanFactory beanFactory, Class<?> mainApplicationClass) {
+        this.beanFactory = beanFactory;
+        this.mainApplicationClass = mainApplicationClass;
+    }
+
+    /**
+     * Resolves the main application class.
+     * @return the main class, or null if it cannot be determined
+     */
+    public Class<?> resolve() {
+        if (mainApplicationClass != null
+            && AnnotatedElementUtils.hasAnnotation(mainApplicationClass, SpringBootApplication.class)) {
+            return mainApplicationClass;
+        }
+
+        Class<?> fromContext = resolveFromBeanDefinitions();
+        if (fromContext != null) {
+            return fromContext;
+        }
+
+        return resolveFromStackTrace();
+    }
+
+    /**
+     * Looks up {@link SpringBootApplication} beans by definition metadata.
+     * Each definition's declared type is checked directly: unlike
+     * {@code getBeanNamesForAnnotation}, this never initializes a
+     * {@link FactoryBean} to learn its object type, and no bean is created.
+     */
+    public Class<?> resolveFromBeanDefinitions() {
+        if (beanFactory == null) {
+            return null;
+        }
+
+        try {
+            ConfigurableListableBeanFactory definitions = definitionsOf(beanFactory);
+            String[] beanNames = beanFactory.getBeanDefinitionNames();
+            if (beanNames == null) {
+                return null;
+            }
+            for (String beanName : beanNames) {
+                Class<?> beanType = definitions != null
+                    ? definitions.getBeanDefinition(beanName).getResolvableType().resolve()
+                    : null;
+                if (beanType == null) {
+                    // Class not loaded yet, as for scanned definitions; still no FactoryBean initialization
+                    beanType = beanFactory.getType(beanName, false);
+                }
+                if (beanType == null || FactoryBean.class.isAssignableFrom(beanType)) {
+                    continue;
+                }
+                // Strip CGLIB proxies back to the user class
+                Class<?> userClass = ClassUtils.getUserClass(beanType);
+                if (AnnotatedElementUtils.hasAnnotation(userClass, SpringBootApplication.class)) {
+                    return userClass;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Could not resolve main class from bean definitions: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static ConfigurableListableBeanFactory definitionsOf(ListableBeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory) {
+            return (ConfigurableListableBeanFactory) beanFactory;
+        }
+        if (beanFactory instanceof ConfigurableApplicationContext) {
+            return ((ConfigurableApplicationContext) beanFactory).getBeanFactory();
+        }
+        return null;
+    }
+
+    Class<?> resolveFromStackTrace() {
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        String mainClassName = Arrays.stream(stackTrace)
+            .filter(element -> "main".equals(element.getMethodName()))
+            .findFirst()
+            .map(StackTraceElement::getClassName)
+            .orElse(null);
+
+        if (mainClassName == null) {
+            return null;
+        }
+
+        try {
+            return Class.forName(mainClassName);
+        } catch (ClassNotFoundException e) {
+            System.err.println("Main class not found: " + mainClassName);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.lcaohoanq.processor;
+
+import io.github.lcaohoanq.health.ReadinessGraph;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reads readiness nodes from {@code browser-launcher.readiness.<name>.*}:
+ * <pre>
+ * browser-launcher.readiness.db.endpoint=http://localhost:8081/health
+ * browser-launcher.readiness.api.endpoint=http://localhost:8080/actuator/health
+ * browser-launcher.readiness.api.depends-on=db
+ * browser-launcher.readiness.api.urls=http://localhost:8080
+ * </pre>
+ */
+final class ReadinessProperties {
+
+    static final String PREFIX = "browser-launcher.readiness";
+
+    private ReadinessProperties() {
+    }
+
+    /**
+     * @param environment the application environment, may be null
+     * @return the configured nodes, in property source order
+     */
+    static List<ReadinessGraph.Node> bind(Environment environment) {
+        if (environment == null) {
+            return Collections.emptyList();
+        }
+        Map<String, NodeProperties> bound = Binder.get(environment)
+            .bind(PREFIX, Bindable.mapOf(String.class, NodeProperties.class))
+            .orElse(Collections.emptyMap());
+
+        List<ReadinessGraph.Node> nodes = new ArrayList<>();
+        bound.forEach((name, node) -> nodes.add(new ReadinessGraph.Node(name, node.getEndpoint(),
+            trimmed(node.getDependsOn()), trimmed(node.getUrls()))));
+        return nodes;
+    }
+
+    // Indexed entries such as depends-on[1]=" cache" keep their spaces, and "db,,cache" binds an empty name
+    private static List<String> trimmed(List<String> values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                result.add(value.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Binding target for one node; relaxed binding accepts both lists and
+     * comma-separated values.
+     */
+    public static class NodeProperties {
+
+        private String endpoint = "";
+        private List<String> dependsOn = new ArrayList<>();
+        private List<String> urls = new ArrayList<>();
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public List<String> getDependsOn() {
+            return dependsOn;
+        }
+
+        public void setDependsOn(List<String> dependsOn) {
+            this.dependsOn = dependsOn;
+        }
+
+        public List<String> getUrls() {
+            return urls;
+        }
+
+        public void setUrls(List<String> urls) {
+            this.urls = urls;
+        }
+    }
+}
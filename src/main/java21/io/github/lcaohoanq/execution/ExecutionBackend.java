@@ -0,0 +1,34 @@
+package io.github.lcaohoanq.execution;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs health probes and browser launches.
+ *
+ * This is the Java 21 variant: every task gets its own virtual thread, so
+ * hundreds of probes or launches cost no pool sizing. The Java 17 variant
+ * falls back to a cached pool of daemon platform threads.
+ */
+public final class ExecutionBackend {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("browser-launcher-worker-", 0).factory());
+
+    private ExecutionBackend() {
+    }
+
+    /**
+     * @return the shared executor; it never needs shutting down
+     */
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * @return true if tasks run on virtual threads
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+}
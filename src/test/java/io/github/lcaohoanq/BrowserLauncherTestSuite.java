@@ -11,6 +11,10 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     "io.github.lcaohoanq.processor", 
     "io.github.lcaohoanq.annotations",
     "io.github.lcaohoanq.integration",
+    "io.github.lcaohoanq.apt",
+    "io.github.lcaohoanq.aot",
+    "io.github.lcaohoanq.health",
+    "io.github.lcaohoanq.execution",
     "io.github.lcaohoanq"
 })
 public class BrowserLauncherTestSuite {
@@ -0,0 +1,39 @@
+package io.github.lcaohoanq;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.http.HttpClient;
+import org.junit.jupiter.api.Test;
+
+class HttpClientProfilesTest {
+
+    @Test
+    void loopback_shouldNeverUseProxyAndSpeakHttp11() {
+        HttpClient loopback = HttpClientProfiles.loopbackBuilder().build();
+
+        assertSame(HttpClient.Builder.NO_PROXY, loopback.proxy().orElseThrow());
+        assertEquals(HttpClient.Version.HTTP_1_1, loopback.version());
+    }
+
+    @Test
+    void isLoopback_shouldRecognizeLocalhostAndLoopbackLiterals() {
+        assertTrue(HttpClientProfiles.isLoopback("localhost"));
+        assertTrue(HttpClientProfiles.isLoopback("LOCALHOST"));
+        assertTrue(HttpClientProfiles.isLoopback("127.0.0.1"));
+        assertTrue(HttpClientProfiles.isLoopback("127.8.9.10"));
+        assertTrue(HttpClientProfiles.isLoopback("[::1]"));
+
+        assertFalse(HttpClientProfiles.isLoopback("example.com"));
+        assertFalse(HttpClientProfiles.isLoopback("10.0.0.1"));
+        assertFalse(HttpClientProfiles.isLoopback(null));
+        assertFalse(HttpClientProfiles.isLoopback(""));
+    }
+
+    @Test
+    void forHost_shouldKeepRemoteClientForRemoteHosts() {
+        SharedHttpClient remote = SharedHttpClient.of(HttpClientProfiles.remoteBuilder().build());
+
+        assertSame(HttpClientProfiles.LOOPBACK, HttpClientProfiles.forHost("localhost", remote));
+        assertSame(remote, HttpClientProfiles.forHost("example.com", remote));
+    }
+}
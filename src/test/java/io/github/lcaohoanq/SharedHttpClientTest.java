@@ -0,0 +1,163 @@
+package io.github.lcaohoanq;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.execution.ExecutionBackend;
+import io.github.lcaohoanq.health.AdaptiveTimeout;
+import io.github.lcaohoanq.health.HealthChecker;
+import io.github.lcaohoanq.health.RetryPolicy;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedHttpClientTest {
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8097));
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void sendAsync_shouldBuildClientOnFirstUseAndDropItAfterwards() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder);
+        assertFalse(shared.isOpen());
+
+        HttpResponse<Void> response = shared.sendAsync(request(), HttpResponse.BodyHandlers.discarding())
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.statusCode());
+        assertFalse(shared.isOpen());
+    }
+
+    @Test
+    void retain_shouldKeepOneClientAcrossRequests() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder);
+        shared.retain();
+        try {
+            shared.send(request(), HttpResponse.BodyHandlers.discarding());
+            HttpClient first = shared.current();
+            shared.send(request(), HttpResponse.BodyHandlers.discarding());
+
+            assertSame(first, shared.current());
+        } finally {
+            shared.release();
+        }
+        assertFalse(shared.isOpen());
+    }
+
+    @Test
+    void retain_shouldBuildClientOnBackendExecutor() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::remoteBuilder);
+        shared.retain();
+        try {
+            shared.send(request(), HttpResponse.BodyHandlers.discarding());
+
+            assertSame(ExecutionBackend.executor(), shared.current().executor().orElse(null));
+        } finally {
+            shared.release();
+        }
+    }
+
+    @Test
+    void idleTimeout_shouldReuseClientAcrossOneOffRequests() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder, Duration.ofMillis(500));
+
+        shared.send(request(), HttpResponse.BodyHandlers.discarding());
+        HttpClient first = shared.current();
+        shared.send(request(), HttpResponse.BodyHandlers.discarding());
+
+        assertNotNull(first);
+        assertSame(first, shared.current());
+        assertTrue(eventually(() -> !shared.isOpen()), "client still open after the idle timeout");
+    }
+
+    @Test
+    void release_withoutRetain_shouldFail() {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder);
+
+        assertThrows(IllegalStateException.class, shared::release);
+    }
+
+    @Test
+    void of_shouldNeverDropTheGivenClient() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        SharedHttpClient shared = SharedHttpClient.of(client);
+
+        shared.send(request(), HttpResponse.BodyHandlers.discarding());
+
+        assertSame(client, shared.current());
+    }
+
+    @Test
+    void pollAsync_shouldLeaveNoClientBehind() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder);
+        HealthChecker healthChecker = new HealthChecker(shared,
+            new AdaptiveTimeout(Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(30),
+                Duration.ofMillis(250)));
+
+        assertTrue(healthChecker.pollAsync("http://localhost:8097/health",
+            RetryPolicy.withDeadline(Duration.ofSeconds(5))).get(5, TimeUnit.SECONDS).isHealthy());
+
+        assertTrue(eventually(() -> !shared.isOpen()), "client still open after the poll");
+    }
+
+    @Test
+    void release_shouldFreeClientHeapAndSelectorThread() throws Exception {
+        SharedHttpClient shared = new SharedHttpClient(HttpClientProfiles::loopbackBuilder);
+        Set<Thread> before = new HashSet<>(Thread.getAllStackTraces().keySet());
+
+        shared.retain();
+        shared.send(request(), HttpResponse.BodyHandlers.discarding());
+        WeakReference<HttpClient> client = new WeakReference<>(shared.current());
+        List<Thread> clientThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> !before.contains(thread))
+            .filter(thread -> thread.getName().startsWith("HttpClient-"))
+            .collect(Collectors.toList());
+        assertFalse(clientThreads.isEmpty(), "no selector thread found");
+        shared.release();
+
+        assertTrue(eventually(() -> {
+            System.gc();
+            return client.get() == null && clientThreads.stream().noneMatch(Thread::isAlive);
+        }), "client or its threads still resident");
+    }
+
+    private static HttpRequest request() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:8097/health")).GET().build();
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (System.nanoTime() - deadline < 0) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -10,6 +10,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+// Keeps covering SharedRes.HTTP_CLIENT for as long as it is deprecated rather than removed
+@SuppressWarnings("deprecation")
 class SharedResAdvancedTest {
 
     @Test
@@ -6,6 +6,7 @@ import java.net.http.HttpClient;
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
+@SuppressWarnings("deprecation")
 class SharedResTest {
 
     @Test
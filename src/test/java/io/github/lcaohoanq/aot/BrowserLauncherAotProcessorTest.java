@@ -0,0 +1,139 @@
+package io.github.lcaohoanq.aot;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.processor.LaunchPlan;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.javapoet.ClassName;
+
+class BrowserLauncherAotProcessorTest {
+
+    @SpringBootApplication
+    @BrowserLauncher(urls = {"http://localhost:8080", "http://localhost:8080/docs"},
+        healthCheckEndpoint = "http://localhost:8080/actuator/health")
+    static class AnnotatedApplication {
+    }
+
+    @SpringBootApplication
+    static class PlainApplication {
+    }
+
+    private final BrowserLauncherAotProcessor processor = new BrowserLauncherAotProcessor();
+
+    @TempDir
+    Path tempDir;
+
+    private DefaultListableBeanFactory beanFactoryWith(Class<?> applicationClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("application", new RootBeanDefinition(applicationClass));
+        return beanFactory;
+    }
+
+    @Test
+    void processAheadOfTime_shouldGenerateDescriptor() throws Exception {
+        BeanFactoryInitializationAotContribution contribution =
+            processor.processAheadOfTime(beanFactoryWith(AnnotatedApplication.class));
+        assertNotNull(contribution);
+
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get(AnnotatedApplication.class)), generatedFiles);
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+
+        String descriptor = generatedFiles.getGeneratedFileContent(
+            GeneratedFiles.Kind.RESOURCE, LaunchPlan.DESCRIPTOR_LOCATION);
+        assertNotNull(descriptor);
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(descriptor));
+        assertEquals(AnnotatedApplication.class.getName(), properties.getProperty("main-class"));
+        assertEquals("http://localhost:8080/docs", properties.getProperty("url.1"));
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource(LaunchPlan.DESCRIPTOR_LOCATION)
+            .test(generationContext.getRuntimeHints()));
+    }
+
+    @Test
+    void processAheadOfTime_shouldOnlyHonorDescriptorOfMainClass() throws Exception {
+        Path dependency = writeDescriptor("dependency", "lib.First");
+        Path otherDependency = writeDescriptor("other-dependency", "lib.Second");
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[]{dependency.toUri().toURL(), otherDependency.toUri().toURL()}, getClass().getClassLoader())) {
+            DefaultListableBeanFactory beanFactory = beanFactoryWith(AnnotatedApplication.class);
+            beanFactory.setBeanClassLoader(loader);
+
+            // Neither descriptor is the application's, so its plan is still generated
+            assertNotNull(processor.processAheadOfTime(beanFactory));
+        }
+
+        Path application = writeDescriptor("application", AnnotatedApplication.class.getName());
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[]{dependency.toUri().toURL(), application.toUri().toURL()}, getClass().getClassLoader())) {
+            DefaultListableBeanFactory beanFactory = beanFactoryWith(AnnotatedApplication.class);
+            beanFactory.setBeanClassLoader(loader);
+
+            assertNull(processor.processAheadOfTime(beanFactory));
+        }
+    }
+
+    private Path writeDescriptor(String root, String mainClassName) throws Exception {
+        Path descriptor = tempDir.resolve(root).resolve(LaunchPlan.DESCRIPTOR_LOCATION);
+        Files.createDirectories(descriptor.getParent());
+        Files.writeString(descriptor, "main-class=" + mainClassName + "\nurl.0=http://localhost:8080\n");
+        return tempDir.resolve(root);
+    }
+
+    @Test
+    void processAheadOfTime_shouldSkipApplicationsWithoutAnnotation() throws Exception {
+        assertNull(processor.processAheadOfTime(beanFactoryWith(PlainApplication.class)));
+    }
+
+    @Test
+    void processAheadOfTime_shouldSkipWhenNoApplicationBean() throws Exception {
+        assertNull(processor.processAheadOfTime(new DefaultListableBeanFactory()));
+    }
+
+    @Test
+    void runtimeHints_shouldKeepDescriptorAndAnnotation() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new BrowserLauncherRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource(LaunchPlan.DESCRIPTOR_LOCATION).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BrowserLauncher.class).test(hints));
+    }
+
+    @Test
+    void runtimeHints_shouldAllowBindingReadinessProperties() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new BrowserLauncherRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        Class<?> nodeProperties = Class.forName(BrowserLauncherRuntimeHints.READINESS_NODE_PROPERTIES);
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(nodeProperties.getDeclaredConstructor())
+            .test(hints));
+        for (String accessor : List.of("getEndpoint", "setEndpoint", "getDependsOn", "setDependsOn", "getUrls",
+            "setUrls")) {
+            assertTrue(RuntimeHintsPredicates.reflection().onMethod(nodeProperties, accessor).test(hints), accessor);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.lcaohoanq.apt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.processor.LaunchPlan;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BrowserLauncherAnnotationProcessorTest {
+
+    @TempDir
+    Path outputDir;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    private boolean compile(String className, String source) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        diagnostics = new DiagnosticCollector<>();
+        String annotationClasspath = new File(
+            BrowserLauncher.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            List<String> options = Arrays.asList(
+                "-classpath", annotationClasspath,
+                "-d", outputDir.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, diagnostics, options, null, List.of(file));
+            task.setProcessors(List.of(new BrowserLauncherAnnotationProcessor()));
+            return task.call();
+        }
+    }
+
+    private String errors() {
+        return diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .map(d -> d.getMessage(null))
+            .collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    void process_shouldWriteDescriptorForValidAnnotation() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(\n"
+                + "    urls = {\"http://localhost:8080\", \"http://localhost:8080/docs\"},\n"
+                + "    healthCheckEndpoint = \"http://localhost:8080/actuator/health\",\n"
+                + "    excludeProfiles = {\"test\", \"ci\"},\n"
+                + "    async = true)\n"
+                + "public class App {}\n");
+
+        assertTrue(success, errors());
+        assertTrue(Files.exists(outputDir.resolve(LaunchPlan.DESCRIPTOR_LOCATION)));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, null)) {
+            LaunchPlan plan = LaunchPlan.loadDescriptor(loader);
+
+            assertNotNull(plan);
+            assertEquals("demo.App", plan.getMainClassName());
+            assertEquals(List.of("http://localhost:8080", "http://localhost:8080/docs"), plan.getUrls());
+            assertEquals("http://localhost:8080/actuator/health", plan.getHealthCheckEndpoint());
+            assertEquals(List.of("test", "ci"), plan.getExcludeProfiles());
+            assertTrue(plan.isAsync());
+        }
+    }
+
+    @Test
+    void process_shouldApplyValuePriority() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(value = \"http://localhost:1\", "
+                + "url = \"http://localhost:2\", urls = {\"http://localhost:3\"})\n"
+                + "public class App {}\n");
+
+        assertTrue(success, errors());
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, null)) {
+            assertEquals(List.of("http://localhost:1"), LaunchPlan.loadDescriptor(loader).getUrls());
+        }
+    }
+
+    @Test
+    void process_shouldRejectRelativeUrl() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(\"localhost:8080/index.html\")\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("Invalid @BrowserLauncher URL"), errors());
+        assertFalse(Files.exists(outputDir.resolve(LaunchPlan.DESCRIPTOR_LOCATION)));
+    }
+
+    @Test
+    void process_shouldRejectMalformedUrl() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(\"http://local host:8080\")\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("Invalid @BrowserLauncher URL"), errors());
+    }
+
+    @Test
+    void process_shouldRejectQuorumLargerThanEndpointCount() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(value = \"http://localhost:8080\",\n"
+                + "    healthCheckEndpoints = {\"http://localhost:8080/health\", \"http://localhost:9000/health\"},\n"
+                + "    healthGate = io.github.lcaohoanq.annotations.HealthGate.QUORUM, healthCheckQuorum = 3)\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("healthCheckQuorum"), errors());
+    }
+
+    @Test
+    void process_shouldRejectMoreUrlEndpointsThanUrls() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(url = \"http://localhost:8080\",\n"
+                + "    urlHealthCheckEndpoints = {\"http://localhost:8080/health\", \"http://localhost:3000/health\"})\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("urlHealthCheckEndpoints"), errors());
+    }
+
+    @Test
+    void process_shouldWarnAboutDuplicateUrl() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(\n"
+                + "    urls = {\"http://localhost:3000\", \"http://localhost:3000\"},\n"
+                + "    urlHealthCheckEndpoints = {\"http://localhost:3000/health\", \"\"})\n"
+                + "public class App {}\n");
+
+        assertTrue(success, errors());
+        assertTrue(diagnostics.getDiagnostics().stream()
+            .anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                && d.getMessage(null).contains("listed more than once")));
+    }
+
+    @Test
+    void process_shouldRejectDuplicateUrlWithDifferentEndpoints() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(\n"
+                + "    urls = {\"http://localhost:3000\", \"http://localhost:3000\"},\n"
+                + "    urlHealthCheckEndpoints = {\"http://localhost:3000/health\", \"http://localhost:3000/ready\"})\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("listed more than once"), errors());
+    }
+
+    @Test
+    void process_shouldRejectCyclicReadinessGraph() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "import io.github.lcaohoanq.annotations.ReadinessNode;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(readiness = {\n"
+                + "    @ReadinessNode(name = \"db\", endpoint = \"http://localhost:8081/health\", dependsOn = \"api\"),\n"
+                + "    @ReadinessNode(name = \"api\", endpoint = \"http://localhost:8080/health\", dependsOn = \"db\",\n"
+                + "        urls = \"http://localhost:8080\")})\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("cycle"), errors());
+    }
+
+    @Test
+    void process_shouldRejectNonHttpHealthCheck() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher(value = \"http://localhost:8080\", "
+                + "healthCheckEndpoint = \"file:///tmp/health\")\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("Invalid healthCheckEndpoint"), errors());
+    }
+
+    @Test
+    void process_shouldRejectMissingUrls() throws Exception {
+        boolean success = compile("demo.App",
+            "package demo;\n"
+                + "@io.github.lcaohoanq.annotations.BrowserLauncher\n"
+                + "public class App {}\n");
+
+        assertFalse(success);
+        assertTrue(errors().contains("No URLs specified"), errors());
+    }
+
+    @Test
+    void checkUrl_shouldAcceptAbsoluteUrls() throws Exception {
+        assertNull(BrowserLauncherAnnotationProcessor.checkUrl("https://example.com/path?q=1"));
+        assertNull(BrowserLauncherAnnotationProcessor.checkUrl("file:///tmp/report.html"));
+        assertNotNull(BrowserLauncherAnnotationProcessor.checkUrl("   "));
+        assertNotNull(BrowserLauncherAnnotationProcessor.checkUrl("http:///nohost"));
+    }
+}
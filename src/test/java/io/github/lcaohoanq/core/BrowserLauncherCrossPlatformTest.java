@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -23,6 +24,7 @@ class BrowserLauncherCrossPlatformTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         originalOut = System.out;
         outputStreamCaptor = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outputStreamCaptor));
@@ -193,4 +195,19 @@ class BrowserLauncherCrossPlatformTest {
             });
         }
     }
+
+    @Test
+    void openHomePage_shouldSkipDesktopInNativeImage() throws Exception {
+        System.setProperty("org.graalvm.nativeimage.imagecode", "runtime");
+        try (MockedStatic<Desktop> desktopMock = mockStatic(Desktop.class)) {
+            assertDoesNotThrow(() -> {
+                JavaBrowserLauncher.openHomePage("https://example.com");
+            });
+
+            // AWT must not be touched inside a native image
+            desktopMock.verify(Desktop::isDesktopSupported, never());
+        } finally {
+            System.clearProperty("org.graalvm.nativeimage.imagecode");
+        }
+    }
 }
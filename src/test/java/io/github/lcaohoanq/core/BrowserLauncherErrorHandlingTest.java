@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.github.lcaohoanq.core.JavaBrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -29,6 +30,7 @@ class BrowserLauncherErrorHandlingTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8085));
         wireMockServer.start();
         
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.github.lcaohoanq.core.JavaBrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -30,6 +31,7 @@ class BrowserLauncherPerformanceTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8086));
         wireMockServer.start();
         
@@ -3,6 +3,7 @@ package io.github.lcaohoanq.core
 import com.github.tomakehurst.wiremock.WireMockServer
 import com.github.tomakehurst.wiremock.client.WireMock.*
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig
+import io.github.lcaohoanq.launch.LaunchStrategies
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -23,6 +24,7 @@ class BrowserLauncherTest {
 
     @BeforeEach
     fun setUp() {
+        LaunchStrategies.reprobe()
         wireMockServer = WireMockServer(wireMockConfig().port(8089))
         wireMockServer.start()
         
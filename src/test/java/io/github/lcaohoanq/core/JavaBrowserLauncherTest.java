@@ -1,14 +1,20 @@
 package io.github.lcaohoanq.core;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.launch.CustomCommandLaunchStrategy;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -16,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
@@ -26,8 +33,12 @@ class JavaBrowserLauncherTest {
     private PrintStream originalOut;
     private ByteArrayOutputStream outputStreamCaptor;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8088));
         wireMockServer.start();
         
@@ -41,6 +52,8 @@ class JavaBrowserLauncherTest {
     void tearDown() throws Exception {
         wireMockServer.stop();
         System.setOut(originalOut);
+        System.clearProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY);
+        LaunchStrategies.reprobe();
     }
 
     @Test
@@ -72,6 +85,28 @@ class JavaBrowserLauncherTest {
         }
     }
 
+    @Test
+    void openHomePageAsync_shouldHandListToStrategyInOneCall() throws Exception {
+        assumeTrue(new File("/bin/sh").canExecute(), "needs a POSIX shell");
+        // A browser named firefox takes every URL on one command line
+        Path log = tempDir.resolve("firefox.log");
+        Path firefox = Files.createDirectories(tempDir.resolve("bin")).resolve("firefox");
+        Files.writeString(firefox, "#!/bin/sh\necho \"$@\" >> '" + log + "'\n");
+        assertTrue(firefox.toFile().setExecutable(true));
+        System.setProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY, firefox.toString());
+
+        List<String> urls = Arrays.asList("https://example.com", "https://kotlin.org", "https://spring.io");
+        JavaBrowserLauncher.openHomePageAsync(urls).get(5, TimeUnit.SECONDS);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Files.exists(log) && System.nanoTime() - deadline < 0) {
+            Thread.sleep(20);
+        }
+        // Give a stray extra process the chance to show up
+        Thread.sleep(200);
+        assertEquals(List.of(String.join(" ", urls)), Files.readAllLines(log));
+    }
+
     @Test
     void doHealthCheckThenOpenHomePage_shouldSkipHealthCheckWhenEndpointIsNull() throws Exception {
         try (MockedStatic<Desktop> desktopMock = mockStatic(Desktop.class)) {
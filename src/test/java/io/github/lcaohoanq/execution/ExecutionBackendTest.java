@@ -0,0 +1,60 @@
+package io.github.lcaohoanq.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ExecutionBackendTest {
+
+    @Test
+    void executor_shouldRunManyBlockingTasksAtOnce() throws Exception {
+        int tasks = 200;
+        CountDownLatch started = new CountDownLatch(tasks);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < tasks; i++) {
+            ExecutionBackend.executor().execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        try {
+            // A fixed-size pool would park most of these behind the first few
+            assertTrue(started.await(10, TimeUnit.SECONDS), "Not all tasks started concurrently");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void executor_shouldUseNamedDaemonThreads() throws Exception {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(1);
+        boolean[] daemon = new boolean[1];
+
+        ExecutionBackend.executor().execute(() -> {
+            names.add(Thread.currentThread().getName());
+            daemon[0] = Thread.currentThread().isDaemon();
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(daemon[0], "Worker threads must not keep the JVM alive");
+        assertTrue(names.iterator().next().startsWith("browser-launcher-worker-"));
+    }
+
+    @Test
+    void isVirtual_shouldBeFalseForPlatformVariant() {
+        // Tests run against the class directory, which only has the Java 17 variant
+        assertFalse(ExecutionBackend.isVirtual());
+    }
+}
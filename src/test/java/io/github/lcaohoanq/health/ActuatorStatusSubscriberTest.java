@@ -0,0 +1,95 @@
+package io.github.lcaohoanq.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ActuatorStatusSubscriberTest {
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static String scan(String body, int chunkSize, long maxBytes) throws Exception {
+        ActuatorStatusSubscriber subscriber = new ActuatorStatusSubscriber(maxBytes);
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            subscriber.onNext(List.of(ByteBuffer.wrap(bytes, offset, length)));
+        }
+        subscriber.onComplete();
+        assertFalse(subscription.cancelled);
+        return subscriber.getBody().toCompletableFuture().get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldReadTopLevelStatusAcrossChunkBoundaries() throws Exception {
+        String body = "{ \"status\" : \"UP\", \"components\": {\"db\": {\"status\": \"DOWN\"}}}";
+
+        for (int chunkSize = 1; chunkSize <= body.length(); chunkSize++) {
+            assertEquals("UP", scan(body, chunkSize, 1024), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void shouldIgnoreNestedStatusFields() throws Exception {
+        String body = "{\"components\":{\"db\":{\"status\":\"UP\"}},\"status\":\"DOWN\"}";
+
+        assertEquals("DOWN", scan(body, 7, 1024));
+    }
+
+    @Test
+    void shouldIgnoreStatusAppearingInsideStrings() throws Exception {
+        String body = "{\"note\":\"\\\"status\\\":\\\"UP\\\"\",\"status\":\"OUT_OF_SERVICE\"}";
+
+        assertEquals("OUT_OF_SERVICE", scan(body, 5, 1024));
+    }
+
+    @Test
+    void shouldCompleteBeforeTheBodyEnds() throws Exception {
+        ActuatorStatusSubscriber subscriber = new ActuatorStatusSubscriber(1024);
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(List.of(ByteBuffer.wrap("{\"status\":\"UP\",\"details\":".getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals("UP", subscriber.getBody().toCompletableFuture().getNow(null));
+        // The remainder is drained, not cancelled
+        assertFalse(subscription.cancelled);
+        assertEquals(2, subscription.requested);
+    }
+
+    @Test
+    void shouldGiveUpAtByteCap() throws Exception {
+        String body = "{\"details\":\"" + "x".repeat(4096) + "\",\"status\":\"UP\"}";
+
+        assertNull(scan(body, 512, 1024));
+    }
+
+    @Test
+    void shouldReturnNullForNonJsonOrMissingStatus() throws Exception {
+        assertNull(scan("OK", 4, 1024));
+        assertNull(scan("{\"healthy\":true}", 4, 1024));
+        assertNull(scan("{\"status\":{\"code\":\"UP\"}}", 4, 1024));
+    }
+}
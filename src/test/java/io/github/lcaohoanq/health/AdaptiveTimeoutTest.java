@@ -0,0 +1,71 @@
+package io.github.lcaohoanq.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveTimeoutTest {
+
+    private final AdaptiveTimeout timeouts = new AdaptiveTimeout(
+        Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(30), Duration.ofMillis(250));
+
+    @Test
+    void histogram_shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertWithin(Duration.ofMillis(500), histogram.getPercentile(50));
+        assertWithin(Duration.ofMillis(990), histogram.getPercentile(99));
+        assertWithin(Duration.ofMillis(1000), histogram.getPercentile(100));
+        assertEquals(Duration.ZERO, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    void timeoutFor_shouldStartAtInitialTimeout() {
+        assertEquals(Duration.ofSeconds(5), timeouts.timeoutFor("http://localhost:8080/health"));
+        assertNull(timeouts.getHistogram("http://localhost:8080/health"));
+    }
+
+    @Test
+    void timeoutFor_shouldFollowP99WithinBounds() {
+        String loopback = "http://localhost:8080/health";
+        String gateway = "http://gateway:8080/health";
+        for (int i = 0; i < 100; i++) {
+            timeouts.record(loopback, Duration.ofMillis(2));
+            timeouts.record(gateway, Duration.ofMillis(i < 98 ? 800 : 1600));
+        }
+
+        // 2 ms + 250 ms margin
+        assertTrue(timeouts.timeoutFor(loopback).toMillis() < 260, timeouts.timeoutFor(loopback).toString());
+        long gatewayTimeout = timeouts.timeoutFor(gateway).toMillis();
+        assertTrue(gatewayTimeout >= 1850 && gatewayTimeout < 2000, String.valueOf(gatewayTimeout));
+
+
+        AdaptiveTimeout noMargin = new AdaptiveTimeout(
+            Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(30), Duration.ZERO);
+        noMargin.record(loopback, Duration.ofMillis(1));
+        assertEquals(Duration.ofMillis(200), noMargin.timeoutFor(loopback));
+    }
+
+    @Test
+    void recordTimeout_shouldWidenUpToMax() {
+        String endpoint = "http://gateway:8080/health";
+        Duration timeout = timeouts.timeoutFor(endpoint);
+        for (int i = 0; i < 5; i++) {
+            timeouts.recordTimeout(endpoint, timeout);
+            Duration next = timeouts.timeoutFor(endpoint);
+            assertTrue(next.compareTo(timeout) > 0 || next.equals(Duration.ofSeconds(30)), next.toString());
+            timeout = next;
+        }
+        assertEquals(Duration.ofSeconds(30), timeout);
+    }
+
+    private static void assertWithin(Duration expected, Duration actual) {
+        double error = Math.abs(actual.toNanos() - expected.toNanos()) / (double) expected.toNanos();
+        assertTrue(error < 0.07, "expected about " + expected + " but was " + actual);
+    }
+}
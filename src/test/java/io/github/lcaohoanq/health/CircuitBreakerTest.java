@@ -0,0 +1,119 @@
+package io.github.lcaohoanq.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lcaohoanq.health.CircuitBreaker.State;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final String ENDPOINT = "http://localhost:8080/health";
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, Duration.ofSeconds(10), now::get);
+
+    private static HealthCheckResult failure() {
+        return HealthCheckResult.ofError(ENDPOINT, new IOException("Connection refused"));
+    }
+
+    private static HealthCheckResult success() {
+        return HealthCheckResult.ofStatus(ENDPOINT, 200);
+    }
+
+    @Test
+    void record_shouldOpenOnceFailureRateReachesThreshold() {
+        assertTrue(breaker.tryAcquire(ENDPOINT));
+        breaker.record(ENDPOINT, failure());
+        // Below minimumCalls
+        assertEquals(State.CLOSED, breaker.getState(ENDPOINT));
+
+        breaker.record(ENDPOINT, success());
+        assertEquals(State.OPEN, breaker.getState(ENDPOINT));
+        assertFalse(breaker.tryAcquire(ENDPOINT));
+        assertEquals(Duration.ofSeconds(10), breaker.getRetryAfter(ENDPOINT));
+        assertEquals(Map.of(ENDPOINT, State.OPEN), breaker.getStates());
+    }
+
+    @Test
+    void record_shouldNotCountUnhealthyAnswersAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            breaker.record(ENDPOINT, HealthCheckResult.ofStatus(ENDPOINT, 503));
+        }
+
+        assertEquals(State.CLOSED, breaker.getState(ENDPOINT));
+        assertEquals(0, breaker.getFailureRate(ENDPOINT));
+    }
+
+    @Test
+    void record_shouldSlideWindowOverRecentProbes() {
+        CircuitBreaker strict = new CircuitBreaker(4, 4, 0.75, Duration.ofSeconds(10), now::get);
+        strict.record(ENDPOINT, failure());
+        strict.record(ENDPOINT, failure());
+        strict.record(ENDPOINT, success());
+        strict.record(ENDPOINT, success());
+        // The two failures slide out of the window
+        strict.record(ENDPOINT, success());
+        strict.record(ENDPOINT, success());
+        strict.record(ENDPOINT, failure());
+
+        assertEquals(0.25, strict.getFailureRate(ENDPOINT));
+        assertEquals(State.CLOSED, strict.getState(ENDPOINT));
+    }
+
+    @Test
+    void tryAcquire_shouldLetOneTrialThroughAfterOpenDuration() {
+        breaker.record(ENDPOINT, failure());
+        breaker.record(ENDPOINT, failure());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(State.HALF_OPEN, breaker.getState(ENDPOINT));
+        assertTrue(breaker.tryAcquire(ENDPOINT));
+        assertFalse(breaker.tryAcquire(ENDPOINT));
+
+        breaker.record(ENDPOINT, failure());
+        assertEquals(State.OPEN, breaker.getState(ENDPOINT));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquire(ENDPOINT));
+        breaker.record(ENDPOINT, success());
+        assertEquals(State.CLOSED, breaker.getState(ENDPOINT));
+        assertEquals(0, breaker.getFailureRate(ENDPOINT));
+    }
+
+    @Test
+    void checkAsync_shouldSettleHalfOpenTrialWhenProbeThrows() throws Exception {
+        HealthChecker checker = new HealthChecker(endpoint -> {
+            throw new IllegalStateException("probe broke");
+        }).withCircuitBreaker(breaker);
+        breaker.record(ENDPOINT, failure());
+        breaker.record(ENDPOINT, failure());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        HealthCheckResult result = checker.checkAsync(ENDPOINT).get(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(IllegalStateException.class, result.getError());
+        assertEquals(State.OPEN, breaker.getState(ENDPOINT));
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquire(ENDPOINT));
+    }
+
+    @Test
+    void checkAsync_shouldSettleHalfOpenTrialWhenProbeFutureFails() throws Exception {
+        HealthChecker checker = new HealthChecker(
+            endpoint -> CompletableFuture.failedFuture(new IOException("reset"))).withCircuitBreaker(breaker);
+        breaker.record(ENDPOINT, failure());
+        breaker.record(ENDPOINT, failure());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        HealthCheckResult result = checker.checkAsync(ENDPOINT).get(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(IOException.class, result.getError());
+        assertEquals(State.OPEN, breaker.getState(ENDPOINT));
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.lcaohoanq.health;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HappyEyeballsTest {
+
+    private static final InetAddress IPV4_LOOPBACK = InetAddress.getLoopbackAddress() instanceof Inet4Address
+        ? InetAddress.getLoopbackAddress()
+        : address("127.0.0.1");
+
+    private static InetAddress address(String literal) {
+        try {
+            return InetAddress.getByName(literal);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        HappyEyeballs.forgetAll();
+    }
+
+    @Test
+    void candidatesFor_shouldInterleaveBothLoopbackFamilies() {
+        List<InetSocketAddress> candidates = HappyEyeballs.candidatesFor("localhost", 8080);
+
+        assertTrue(candidates.stream().anyMatch(candidate -> candidate.getAddress() instanceof Inet6Address));
+        assertTrue(candidates.stream().anyMatch(candidate -> candidate.getAddress() instanceof Inet4Address));
+        assertNotEquals(candidates.get(0).getAddress().getClass(), candidates.get(1).getAddress().getClass());
+        assertTrue(candidates.stream().allMatch(candidate -> candidate.getPort() == 8080));
+        assertNull(HappyEyeballs.candidatesFor("example.com", 8080));
+    }
+
+    @Test
+    void connect_shouldFindIpv4ListenerWhenIpv6IsTriedFirst() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, IPV4_LOOPBACK)) {
+            List<InetSocketAddress> candidates = List.of(
+                new InetSocketAddress(address("::1"), server.getLocalPort()),
+                new InetSocketAddress(IPV4_LOOPBACK, server.getLocalPort()));
+
+            long start = System.nanoTime();
+            InetSocketAddress winner = HappyEyeballs.connect(candidates, TimeUnit.SECONDS.toNanos(5));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(IPV4_LOOPBACK, winner.getAddress());
+            // The refused IPv6 attempt hands over at once rather than after the attempt delay
+            assertTrue(elapsedMillis < 100, "race took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Test
+    void connect_shouldReturnNullWhenNothingListens() throws Exception {
+        assertNull(HappyEyeballs.connect(HappyEyeballs.candidatesFor("localhost", freePort()),
+            TimeUnit.SECONDS.toNanos(5)));
+    }
+
+    @Test
+    void withAddress_shouldKeepHttpsHostName() throws Exception {
+        URI http = URI.create("http://localhost:8080/actuator/health?x=1");
+
+        assertEquals(URI.create("http://127.0.0.1:8080/actuator/health?x=1"),
+            HappyEyeballs.withAddress(http, IPV4_LOOPBACK));
+        assertEquals("[0:0:0:0:0:0:0:1]", HappyEyeballs.withAddress(http, address("::1")).getHost());
+        URI https = URI.create("https://localhost:8443/health");
+        assertSame(https, HappyEyeballs.withAddress(https, IPV4_LOOPBACK));
+    }
+
+    @Test
+    void withAddress_shouldKeepEncodedCharacters() {
+        URI uri = URI.create("http://user%40corp@localhost:8080/a%2Fb/health?next=%2Fhome%3Fx%3D1%26y%3D2&q=a+b#frag%20ment");
+
+        URI rewritten = HappyEyeballs.withAddress(uri, IPV4_LOOPBACK);
+
+        assertEquals("http://user%40corp@127.0.0.1:8080/a%2Fb/health?next=%2Fhome%3Fx%3D1%26y%3D2&q=a+b#frag%20ment",
+            rewritten.toString());
+        assertEquals(uri.getRawQuery(), rewritten.getRawQuery());
+    }
+
+    @Test
+    void checkAsync_shouldRememberTheLoopbackAddressThatListens() throws Exception {
+        WireMockServer wireMockServer = new WireMockServer(
+            WireMockConfiguration.wireMockConfig().port(8096).bindAddress(IPV4_LOOPBACK.getHostAddress()));
+        wireMockServer.start();
+        try {
+            wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+            HealthChecker healthChecker = new HealthChecker(HttpClient.newHttpClient(), Duration.ofSeconds(5));
+
+            assertTrue(healthChecker.checkAsync("http://localhost:8096/health").get(5, TimeUnit.SECONDS).isHealthy());
+            assertEquals(IPV4_LOOPBACK, HappyEyeballs.winnerFor("localhost", 8096));
+            assertTrue(healthChecker.checkAsync("http://localhost:8096/health").get(5, TimeUnit.SECONDS).isHealthy());
+            wireMockServer.verify(2, getRequestedFor(urlEqualTo("/health")));
+        } finally {
+            wireMockServer.stop();
+        }
+    }
+}
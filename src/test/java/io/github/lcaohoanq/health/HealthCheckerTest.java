@@ -0,0 +1,427 @@
+package io.github.lcaohoanq.health;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.HttpClientProfiles;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HealthCheckerTest {
+
+    private WireMockServer wireMockServer;
+    private HealthChecker healthChecker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8091));
+        wireMockServer.start();
+        healthChecker = new HealthChecker(HttpClient.newHttpClient(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void checkAsync_shouldCoalesceConcurrentCallsForSameEndpoint() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(300)));
+
+        List<CompletableFuture<HealthCheckResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(healthChecker.checkAsync("http://localhost:8091/health"));
+        }
+        for (CompletableFuture<HealthCheckResult> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).isHealthy());
+        }
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+        assertEquals(0, healthChecker.inFlightCount());
+    }
+
+    @Test
+    void checkAsync_shouldProbeDistinctEndpointsSeparately() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/a")).willReturn(aResponse().withStatus(200).withFixedDelay(200)));
+        wireMockServer.stubFor(get(urlEqualTo("/b")).willReturn(aResponse().withStatus(503).withFixedDelay(200)));
+
+        CompletableFuture<HealthCheckResult> a = healthChecker.checkAsync("http://localhost:8091/a");
+        CompletableFuture<HealthCheckResult> b = healthChecker.checkAsync("http://localhost:8091/b");
+
+        assertTrue(a.get(5, TimeUnit.SECONDS).isHealthy());
+        assertEquals(503, b.get(5, TimeUnit.SECONDS).getStatusCode());
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/a")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/b")));
+    }
+
+    @Test
+    void check_shouldStartFreshProbeAfterCompletion() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+
+        assertTrue(healthChecker.check("http://localhost:8091/health").isHealthy());
+        assertTrue(healthChecker.check("http://localhost:8091/health").isHealthy());
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/health")));
+    }
+
+    @Test
+    void cancellingOneCaller_shouldNotAffectOthers() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(300)));
+
+        CompletableFuture<HealthCheckResult> first = healthChecker.checkAsync("http://localhost:8091/health");
+        CompletableFuture<HealthCheckResult> second = healthChecker.checkAsync("http://localhost:8091/health");
+        first.cancel(true);
+
+        assertTrue(second.get(5, TimeUnit.SECONDS).isHealthy());
+    }
+
+    @Test
+    void check_shouldReportConnectionFailureAsResult() throws Exception {
+        HealthCheckResult result = healthChecker.check("http://localhost:9999/health");
+
+        assertFalse(result.isHealthy());
+        assertNotNull(result.getError());
+        assertEquals(-1, result.getStatusCode());
+    }
+
+    @Test
+    void check_shouldReportInvalidEndpointAsResult() throws Exception {
+        HealthCheckResult result = healthChecker.check("not a uri");
+
+        assertFalse(result.isHealthy());
+        assertInstanceOf(IllegalArgumentException.class, result.getError());
+    }
+
+    @Test
+    void pollAsync_shouldRetryUntilHealthy() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).inScenario("startup")
+            .whenScenarioStateIs(STARTED).willReturn(aResponse().withStatus(503))
+            .willSetStateTo("warming"));
+        wireMockServer.stubFor(get(urlEqualTo("/health")).inScenario("startup")
+            .whenScenarioStateIs("warming").willReturn(aResponse().withStatus(503))
+            .willSetStateTo("up"));
+        wireMockServer.stubFor(get(urlEqualTo("/health")).inScenario("startup")
+            .whenScenarioStateIs("up").willReturn(aResponse().withStatus(200)));
+
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofSeconds(5))
+            .withBackoff(Duration.ofMillis(20), 2.0, Duration.ofMillis(100));
+        HealthCheckResult result = healthChecker.pollAsync("http://localhost:8091/health", policy)
+            .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isHealthy());
+        assertEquals(3, result.getAttempts());
+        wireMockServer.verify(3, getRequestedFor(urlEqualTo("/health")));
+    }
+
+    @Test
+    void poll_shouldGiveUpAtDeadlineWithLastResult() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofMillis(1500))
+            .withBackoff(Duration.ofMillis(20), 2.0, Duration.ofMillis(100));
+        long start = System.nanoTime();
+        HealthCheckResult result = healthChecker.poll("http://localhost:8091/health", policy);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertFalse(result.isHealthy());
+        assertEquals(503, result.getStatusCode());
+        assertTrue(result.getAttempts() > 1);
+        assertTrue(elapsedMillis < 3000, "polling overran its deadline: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void pollAsync_shouldExpireWhileProbeIsStillInFlight() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+
+        HealthCheckResult result = healthChecker
+            .pollAsync("http://localhost:8091/health", RetryPolicy.withDeadline(Duration.ofMillis(200)))
+            .get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isHealthy());
+        assertInstanceOf(TimeoutException.class, result.getError());
+    }
+
+    @Test
+    void pollAsync_shouldStopPollingOnceCancelled() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofSeconds(10))
+            .withBackoff(Duration.ofMillis(50), 1.0, Duration.ofMillis(50))
+            .withJitter(0.0);
+        CompletableFuture<HealthCheckResult> poll = healthChecker.pollAsync("http://localhost:8091/health", policy);
+        Thread.sleep(200);
+        poll.cancel(false);
+        Thread.sleep(100);
+        int requestsAtCancel = wireMockServer.findAll(getRequestedFor(urlEqualTo("/health"))).size();
+        Thread.sleep(300);
+
+        assertEquals(requestsAtCancel, wireMockServer.findAll(getRequestedFor(urlEqualTo("/health"))).size());
+    }
+
+    @Test
+    void pollAsync_withoutDeadline_shouldProbeOnce() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+
+        HealthCheckResult result = healthChecker.pollAsync("http://localhost:8091/health", RetryPolicy.none())
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, result.getAttempts());
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+    }
+
+    @Test
+    void backoffAfter_shouldGrowWithinJitterBoundsAndCap() {
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofSeconds(30))
+            .withBackoff(Duration.ofMillis(100), 2.0, Duration.ofMillis(1000))
+            .withJitter(0.2);
+
+        for (int i = 0; i < 100; i++) {
+            long first = policy.backoffAfter(1).toMillis();
+            long third = policy.backoffAfter(3).toMillis();
+            long tenth = policy.backoffAfter(10).toMillis();
+            assertTrue(first >= 80 && first <= 120, "first backoff " + first);
+            assertTrue(third >= 320 && third <= 480, "third backoff " + third);
+            assertTrue(tenth >= 800 && tenth <= 1200, "capped backoff " + tenth);
+        }
+    }
+
+    @Test
+    void retryPolicy_shouldRejectInvalidSettings() {
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofSeconds(1));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> policy.withBackoff(Duration.ofMillis(10), 0.5, Duration.ofMillis(100)));
+        assertThrows(IllegalArgumentException.class, () -> policy.withJitter(1.5));
+        assertFalse(RetryPolicy.none().isRetrying());
+    }
+
+    @Test
+    void check_shouldIgnoreBodyByDefault() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(200).withBody("{\"status\":\"DOWN\"}")));
+
+        HealthCheckResult result = healthChecker.check("http://localhost:8091/health");
+
+        assertTrue(result.isHealthy());
+        assertNull(result.getBodyStatus());
+    }
+
+    @Test
+    void check_withStatusBodyLimit_shouldRequireActuatorStatusUp() throws Exception {
+        HealthChecker statusChecker = new HealthChecker(HttpClient.newHttpClient(), Duration.ofSeconds(5), 4096);
+        wireMockServer.stubFor(get(urlEqualTo("/up"))
+            .willReturn(aResponse().withStatus(200).withBody("{\"status\":\"UP\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/down"))
+            .willReturn(aResponse().withStatus(200).withBody("{\"status\":\"DOWN\"}")));
+
+        HealthCheckResult up = statusChecker.check("http://localhost:8091/up");
+        HealthCheckResult down = statusChecker.check("http://localhost:8091/down");
+
+        assertTrue(up.isHealthy());
+        assertEquals("UP", up.getBodyStatus());
+        assertFalse(down.isHealthy());
+        assertEquals("DOWN", down.getBodyStatus());
+    }
+
+    @Test
+    void check_withStatusBodyLimit_shouldNotWaitForLargeDetails() throws Exception {
+        HealthChecker statusChecker = new HealthChecker(HttpClient.newHttpClient(), Duration.ofSeconds(5), 4096);
+        String details = "{\"status\":\"UP\",\"components\":{\"detail\":\"" + "x".repeat(500_000) + "\"}}";
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(200).withBody(details)
+                .withChunkedDribbleDelay(50, 3000)));
+
+        long start = System.nanoTime();
+        HealthCheckResult result = statusChecker.check("http://localhost:8091/health");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(result.isHealthy());
+        assertTrue(elapsedMillis < 2000, "waited " + elapsedMillis + " ms for the whole body");
+    }
+
+    @Test
+    void pollAsync_shouldWaitForPortBeforeSendingHttp() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+        wireMockServer.stop();
+        RetryPolicy policy = RetryPolicy.withDeadline(Duration.ofSeconds(10))
+            .withBackoff(Duration.ofMillis(20), 2.0, Duration.ofMillis(100));
+
+        CompletableFuture<HealthCheckResult> poll = healthChecker.pollAsync("http://localhost:8091/health", policy);
+        Thread.sleep(500);
+        wireMockServer.start();
+        HealthCheckResult result = poll.get(10, TimeUnit.SECONDS);
+
+        assertTrue(result.isHealthy());
+        // Refused connections were found by TCP alone; only the successful check used HTTP
+        assertEquals(1, result.getAttempts());
+    }
+
+    @Test
+    void pollAsync_shouldReportPortThatNeverOpens() throws Exception {
+        HealthCheckResult result = healthChecker
+            .pollAsync("http://localhost:9999/health", RetryPolicy.withDeadline(Duration.ofMillis(300)))
+            .get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isHealthy());
+        assertEquals(0, result.getAttempts());
+        assertTrue(result.getError().getMessage().startsWith("Port not accepting connections"));
+    }
+
+    @Test
+    void pollGateAsync_all_shouldProbeEndpointsInParallel() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/gateway")).willReturn(aResponse().withStatus(200).withFixedDelay(400)));
+        wireMockServer.stubFor(get(urlEqualTo("/auth")).willReturn(aResponse().withStatus(200).withFixedDelay(400)));
+        wireMockServer.stubFor(get(urlEqualTo("/app")).willReturn(aResponse().withStatus(200).withFixedDelay(400)));
+        List<String> endpoints = List.of("http://localhost:8091/gateway", "http://localhost:8091/auth",
+            "http://localhost:8091/app");
+
+        HealthGateResult result = healthChecker.pollGateAsync(endpoints, 3, RetryPolicy.none())
+            .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isPassed());
+        assertEquals(3, result.getHealthyCount());
+        assertTrue(result.getElapsed().toMillis() < 1000, "gate took " + result.getElapsed().toMillis() + " ms");
+    }
+
+    @Test
+    void pollGateAsync_any_shouldNotWaitForSlowEndpoints() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/fast")).willReturn(aResponse().withStatus(200)));
+        wireMockServer.stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+
+        HealthGateResult result = healthChecker
+            .pollGateAsync(List.of("http://localhost:8091/slow", "http://localhost:8091/fast"), 1, RetryPolicy.none())
+            .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isPassed());
+        assertEquals(1, result.getResults().size());
+        assertTrue(result.getElapsed().toMillis() < 2000, "gate took " + result.getElapsed().toMillis() + " ms");
+    }
+
+    @Test
+    void pollGateAsync_all_shouldFailAsSoonAsOneEndpointFails() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/down")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+
+        HealthGateResult result = healthChecker
+            .pollGateAsync(List.of("http://localhost:8091/slow", "http://localhost:8091/down"), 2, RetryPolicy.none())
+            .get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isPassed());
+        assertEquals(503, result.getResults().get(0).getStatusCode());
+        assertTrue(result.getElapsed().toMillis() < 2000, "gate took " + result.getElapsed().toMillis() + " ms");
+    }
+
+    @Test
+    void pollGateAsync_quorum_shouldPassWithEnoughHealthyEndpoints() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/a")).willReturn(aResponse().withStatus(200)));
+        wireMockServer.stubFor(get(urlEqualTo("/b")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/c")).willReturn(aResponse().withStatus(200).withFixedDelay(100)));
+        List<String> endpoints = List.of("http://localhost:8091/a", "http://localhost:8091/b",
+            "http://localhost:8091/c");
+
+        assertTrue(healthChecker.pollGate(endpoints, 2, RetryPolicy.none()).isPassed());
+        assertFalse(healthChecker.pollGate(endpoints, 3, RetryPolicy.none()).isPassed());
+    }
+
+    @Test
+    void pollGateAsync_shouldRejectImpossibleQuorum() {
+        List<String> endpoints = List.of("http://localhost:8091/a", "http://localhost:8091/b");
+
+        assertThrows(IllegalArgumentException.class, () -> healthChecker.pollGateAsync(endpoints, 0, RetryPolicy.none()));
+        assertThrows(IllegalArgumentException.class, () -> healthChecker.pollGateAsync(endpoints, 3, RetryPolicy.none()));
+    }
+
+    @Test
+    void withProbe_shouldOverrideOnlyTheGivenEndpoint() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/remote")).willReturn(aResponse().withStatus(200)));
+        HealthChecker mixed = healthChecker.withProbe("http://localhost:8091/local",
+            endpoint -> CompletableFuture.completedFuture(HealthCheckResult.ofStatus(endpoint, 503)));
+
+        assertEquals(503, mixed.check("http://localhost:8091/local").getStatusCode());
+        assertTrue(mixed.check("http://localhost:8091/remote").isHealthy());
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/local")));
+    }
+
+    @Test
+    void checkAsync_shouldTimeOutHungEndpointAfterObservedLatency() throws Exception {
+        AdaptiveTimeout timeouts = new AdaptiveTimeout(
+            Duration.ofSeconds(5), Duration.ofMillis(100), Duration.ofSeconds(30), Duration.ofMillis(250));
+        HealthChecker adaptive = new HealthChecker(HttpClient.newHttpClient(), timeouts);
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(adaptive.checkAsync("http://localhost:8091/health").get(5, TimeUnit.SECONDS).isHealthy());
+        }
+        assertEquals(5, timeouts.getHistogram("http://localhost:8091/health").getCount());
+
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+        HealthCheckResult result = adaptive.checkAsync("http://localhost:8091/health").get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isHealthy());
+        assertTrue(result.getError() instanceof HttpTimeoutException, String.valueOf(result.getError()));
+        assertTrue(result.getElapsed().toMillis() < 2000, "took " + result.getElapsed().toMillis() + " ms");
+        assertTrue(timeouts.timeoutFor("http://localhost:8091/health").compareTo(Duration.ofMillis(500)) > 0);
+    }
+
+    @Test
+    void checkAsync_shouldAnswerRepeatedChecksFromCache() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+        HealthResultCache cache = new HealthResultCache(Duration.ofMinutes(1), Duration.ofSeconds(1), 16);
+        HealthChecker cached = healthChecker.withCache(cache);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cached.checkAsync("http://localhost:8091/health").get(5, TimeUnit.SECONDS).isHealthy());
+        }
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+        assertEquals(4, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void checkAsync_shouldFailFastWhileCircuitIsOpen() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, Duration.ofMinutes(1));
+        HealthChecker guarded = healthChecker.withCircuitBreaker(breaker);
+        String endpoint = "http://localhost:9999/health";
+
+        for (int i = 0; i < 2; i++) {
+            assertFalse(guarded.checkAsync(endpoint).get(5, TimeUnit.SECONDS).isHealthy());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(endpoint));
+
+        HealthCheckResult result = guarded.checkAsync(endpoint).get(5, TimeUnit.SECONDS);
+        assertTrue(result.getError() instanceof CircuitOpenException, String.valueOf(result.getError()));
+        assertTrue(((CircuitOpenException) result.getError()).getRetryAfter().toSeconds() > 50);
+    }
+
+    @Test
+    void check_withLoopbackClient_shouldBypassProxyForLocalEndpoints() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+        HttpClient proxied = HttpClient.newBuilder()
+            .proxy(ProxySelector.of(new InetSocketAddress("localhost", 9999)))
+            .build();
+        HealthChecker throughProxy = new HealthChecker(proxied, Duration.ofSeconds(5));
+
+        assertFalse(throughProxy.check("http://localhost:8091/health").isHealthy());
+        HealthCheckResult direct = throughProxy.withLoopbackClient(HttpClientProfiles.LOOPBACK)
+            .check("http://localhost:8091/health");
+        assertTrue(direct.isHealthy(), String.valueOf(direct.getError()));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.lcaohoanq.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class HealthResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final HealthResultCache cache =
+        new HealthResultCache(Duration.ofSeconds(10), Duration.ofSeconds(1), 2, now::get);
+
+    @Test
+    void get_shouldReturnHealthyResultUntilTtlExpires() {
+        HealthCheckResult healthy = HealthCheckResult.ofStatus("http://a/health", 200);
+        cache.put("http://a/health", healthy);
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertSame(healthy, cache.get("http://a/health"));
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get("http://a/health"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_shouldExpireUnhealthyResultAfterNegativeTtl() {
+        cache.put("http://a/health", HealthCheckResult.ofStatus("http://a/health", 503));
+
+        assertNotNull(cache.get("http://a/health"));
+        now.addAndGet(Duration.ofMillis(1001).toNanos());
+        assertNull(cache.get("http://a/health"));
+    }
+
+    @Test
+    void put_shouldSkipResultsWithZeroTtl() {
+        HealthResultCache positiveOnly = new HealthResultCache(Duration.ofSeconds(10), Duration.ZERO, 2, now::get);
+        positiveOnly.put("http://a/health", HealthCheckResult.ofError("http://a/health", new IllegalStateException()));
+
+        assertNull(positiveOnly.get("http://a/health"));
+        assertEquals(0, positiveOnly.size());
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedBeyondMaxEntries() {
+        cache.put("http://a/health", HealthCheckResult.ofStatus("http://a/health", 200));
+        cache.put("http://b/health", HealthCheckResult.ofStatus("http://b/health", 200));
+        cache.get("http://a/health");
+        cache.put("http://c/health", HealthCheckResult.ofStatus("http://c/health", 200));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("http://a/health"));
+        assertNull(cache.get("http://b/health"));
+        assertNotNull(cache.get("http://c/health"));
+    }
+
+    @Test
+    void invalidate_shouldForceAFreshProbe() {
+        cache.put("http://a/health", HealthCheckResult.ofStatus("http://a/health", 200));
+        cache.invalidate("http://a/health");
+
+        assertNull(cache.get("http://a/health"));
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.lcaohoanq.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PortProbeTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void startScheduler() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    private InetSocketAddress awaitOpen(List<InetSocketAddress> addresses, Duration timeout,
+        BooleanSupplier abandoned) throws Exception {
+        return PortProbe.awaitOpenAsync(addresses, timeout, abandoned, scheduler, ForkJoinPool.commonPool())
+            .get(timeout.toMillis() + 5000, TimeUnit.MILLISECONDS);
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    void awaitOpen_shouldReturnAtOnceForListeningPort() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+
+            assertEquals(address, awaitOpen(List.of(address), Duration.ofSeconds(1), () -> false));
+        }
+    }
+
+    @Test
+    void awaitOpen_shouldGiveUpAtTimeoutForClosedPort() throws Exception {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), freePort());
+
+        long start = System.nanoTime();
+        assertNull(awaitOpen(List.of(address), Duration.ofMillis(300), () -> false));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 250 && elapsedMillis < 1500, "waited " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void awaitOpen_shouldDetectPortShortlyAfterItOpens() throws Exception {
+        int port = freePort();
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        AtomicLong boundAt = new AtomicLong();
+
+        CompletableFuture<ServerSocket> server = CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(300);
+                ServerSocket socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+                boundAt.set(System.nanoTime());
+                return socket;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        try {
+            assertEquals(address, awaitOpen(List.of(address), Duration.ofSeconds(5), () -> false));
+            long detectionMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - boundAt.get());
+            System.out.println("Port detected " + detectionMillis + " ms after bind");
+            assertTrue(detectionMillis < 100, "detected " + detectionMillis + " ms after bind");
+        } finally {
+            server.get(5, TimeUnit.SECONDS).close();
+        }
+    }
+
+    @Test
+    void awaitOpen_shouldStopWhenAbandoned() throws Exception {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), freePort());
+
+        long start = System.nanoTime();
+        assertNull(awaitOpen(List.of(address), Duration.ofSeconds(10), () -> true));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    void awaitOpenAsync_shouldNotHoldAThreadBetweenAttempts() throws Exception {
+        InetSocketAddress first = new InetSocketAddress(InetAddress.getLoopbackAddress(), freePort());
+        InetSocketAddress second = new InetSocketAddress(InetAddress.getLoopbackAddress(), freePort());
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            long start = System.nanoTime();
+            CompletableFuture<InetSocketAddress> a =
+                PortProbe.awaitOpenAsync(List.of(first), Duration.ofMillis(300), () -> false, scheduler, single);
+            CompletableFuture<InetSocketAddress> b =
+                PortProbe.awaitOpenAsync(List.of(second), Duration.ofMillis(300), () -> false, scheduler, single);
+
+            assertNull(a.get(5, TimeUnit.SECONDS));
+            assertNull(b.get(5, TimeUnit.SECONDS));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // Both waits share one thread, so they must have run side by side
+            assertTrue(elapsedMillis < 550, "waited " + elapsedMillis + " ms");
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void isDirect_shouldRejectEndpointsBehindAProxy() {
+        ProxySelector original = ProxySelector.getDefault();
+        try {
+            ProxySelector.setDefault(ProxySelector.of(new InetSocketAddress("proxy.example.com", 3128)));
+            assertFalse(PortProbe.isDirect("https://api.example.com/health"));
+
+            ProxySelector.setDefault(null);
+            assertTrue(PortProbe.isDirect("https://api.example.com/health"));
+        } finally {
+            ProxySelector.setDefault(original);
+        }
+    }
+
+    @Test
+    void addressesOf_shouldApplySchemeDefaultsAndRejectOthers() {
+        assertEquals(80, PortProbe.addressesOf("http://localhost/health").get(0).getPort());
+        assertEquals(443, PortProbe.addressesOf("https://localhost/health").get(0).getPort());
+        assertEquals(8080, PortProbe.addressesOf("http://127.0.0.1:8080/actuator/health").get(0).getPort());
+        assertEquals(1, PortProbe.addressesOf("http://127.0.0.1:8080/actuator/health").size());
+        assertNull(PortProbe.addressesOf("ftp://localhost/health"));
+        assertNull(PortProbe.addressesOf("not a uri"));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.lcaohoanq.health;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadinessGraphTest {
+
+    private WireMockServer wireMockServer;
+    private HealthChecker healthChecker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8095));
+        wireMockServer.start();
+        healthChecker = new HealthChecker(HttpClient.newHttpClient(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        wireMockServer.stop();
+    }
+
+    private static ReadinessGraph.Node node(String name, String path, String... dependsOn) {
+        return new ReadinessGraph.Node(name, "http://localhost:8095" + path, List.of(dependsOn), List.of());
+    }
+
+    @Test
+    void constructor_shouldRejectCycles() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new ReadinessGraph(List.of(
+            node("db", "/db"), node("api", "/api", "db", "auth"), node("auth", "/auth", "api"))));
+
+        assertTrue(e.getMessage().contains("cycle"), e.getMessage());
+        assertTrue(e.getMessage().contains("api") && e.getMessage().contains("auth"), e.getMessage());
+        assertFalse(e.getMessage().contains("db"), e.getMessage());
+    }
+
+    @Test
+    void constructor_shouldRejectUnknownAndDuplicateNodes() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReadinessGraph(List.of(node("api", "/api", "db"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReadinessGraph(List.of(node("api", "/api"), node("api", "/other"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ReadinessGraph(List.of(new ReadinessGraph.Node("api", "", List.of(), List.of()))));
+    }
+
+    @Test
+    void startAsync_shouldProbeNodeOnlyAfterItsPrerequisites() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/db")).willReturn(aResponse().withStatus(200).withFixedDelay(500)));
+        wireMockServer.stubFor(get(urlEqualTo("/api")).willReturn(aResponse().withStatus(200)));
+        ReadinessGraph graph = new ReadinessGraph(List.of(node("api", "/api", "db"), node("db", "/db")));
+
+        Map<String, CompletableFuture<HealthCheckResult>> readiness = graph.startAsync(healthChecker, RetryPolicy.none());
+        Thread.sleep(200);
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api")));
+
+        assertTrue(readiness.get("api").get(5, TimeUnit.SECONDS).isHealthy());
+        assertTrue(readiness.get("db").isDone());
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api")));
+        assertEquals(List.of("api", "db"), List.copyOf(readiness.keySet()));
+    }
+
+    @Test
+    void startAsync_shouldProbeIndependentBranchesInParallel() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/db")).willReturn(aResponse().withStatus(200).withFixedDelay(800)));
+        wireMockServer.stubFor(get(urlEqualTo("/cache")).willReturn(aResponse().withStatus(200).withFixedDelay(800)));
+        wireMockServer.stubFor(get(urlEqualTo("/api")).willReturn(aResponse().withStatus(200)));
+        ReadinessGraph graph = new ReadinessGraph(List.of(
+            node("db", "/db"), node("cache", "/cache"), node("api", "/api", "db", "cache")));
+
+        long start = System.nanoTime();
+        HealthCheckResult api = graph.startAsync(healthChecker, RetryPolicy.none())
+            .get("api").get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(api.isHealthy());
+        assertTrue(elapsedMs < 1500, "graph took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void startAsync_shouldNotProbeDependentsOfFailedNode() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/db")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/cache")).willReturn(aResponse().withStatus(200)));
+        wireMockServer.stubFor(get(urlEqualTo("/api")).willReturn(aResponse().withStatus(200)));
+        ReadinessGraph graph = new ReadinessGraph(List.of(
+            node("db", "/db"), node("api", "/api", "db"), node("web", "/cache", "api"), node("cache", "/cache")));
+
+        Map<String, CompletableFuture<HealthCheckResult>> readiness = graph.startAsync(healthChecker, RetryPolicy.none());
+        HealthCheckResult web = readiness.get("web").get(5, TimeUnit.SECONDS);
+
+        assertFalse(web.isHealthy());
+        assertTrue(web.getError() instanceof IllegalStateException);
+        assertTrue(web.getError().getMessage().contains("'api'"), web.getError().getMessage());
+        assertTrue(readiness.get("cache").get(5, TimeUnit.SECONDS).isHealthy());
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/cache")));
+    }
+}
@@ -8,6 +8,7 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import io.github.lcaohoanq.annotations.BrowserLauncher;
 import io.github.lcaohoanq.core.JavaBrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import io.github.lcaohoanq.processor.BrowserLauncherProcessor;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
@@ -30,6 +31,7 @@ class BrowserLauncherIntegrationTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8087));
         wireMockServer.start();
         
@@ -0,0 +1,127 @@
+package io.github.lcaohoanq.launch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CommandLaunchStrategyTest {
+
+    private static final int URL_COUNT = 20;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void isMultiUrlBrowser_shouldMatchExecutableName() {
+        assertTrue(CommandLaunchStrategy.isMultiUrlBrowser("firefox"));
+        assertTrue(CommandLaunchStrategy.isMultiUrlBrowser("/usr/bin/google-chrome-stable"));
+        assertTrue(CommandLaunchStrategy.isMultiUrlBrowser("firefox.exe"));
+        assertFalse(CommandLaunchStrategy.isMultiUrlBrowser("xdg-open"));
+        assertFalse(CommandLaunchStrategy.isMultiUrlBrowser("lynx"));
+    }
+
+    @Test
+    void executableFor_shouldMapDesktopEntriesOfMultiUrlBrowsers() {
+        assertEquals("firefox", XdgOpenLaunchStrategy.executableFor("firefox.desktop"));
+        assertEquals("firefox", XdgOpenLaunchStrategy.executableFor("firefox_firefox.desktop"));
+        assertEquals("chromium-browser", XdgOpenLaunchStrategy.executableFor("chromium-browser.desktop"));
+        assertNull(XdgOpenLaunchStrategy.executableFor("org.mozilla.firefox.desktop"));
+        assertNull(XdgOpenLaunchStrategy.executableFor("lynx.desktop"));
+        assertNull(XdgOpenLaunchStrategy.executableFor(""));
+    }
+
+    @Test
+    void open_shouldNotBatchCommandWithPlaceholder() throws Exception {
+        Path log = tempDir.resolve("placeholder.log");
+        Path firefox = stubBrowser("firefox", log);
+
+        open(new StubStrategy(List.of(firefox.toString(), "--new-tab", "%s")), urls());
+
+        assertEquals(URL_COUNT, awaitLines(log, URL_COUNT).size());
+    }
+
+    /**
+     * Opens the same URLs with a stub browser that takes them all on one
+     * command line and with one that does not, and reports the time spent
+     * starting processes.
+     */
+    @Test
+    void benchmark_batchedLaunchAgainstPerUrlSpawns() throws Exception {
+        Path batchedLog = tempDir.resolve("batched.log");
+        Path perUrlLog = tempDir.resolve("per-url.log");
+        StubStrategy batched = new StubStrategy(List.of(stubBrowser("firefox", batchedLog).toString()));
+        StubStrategy perUrl = new StubStrategy(List.of(stubBrowser("stub-browser", perUrlLog).toString()));
+
+        // Warm up process creation so neither side pays for it
+        new ProcessBuilder("/bin/sh", "-c", "true").start().waitFor();
+        long batchedNanos = open(batched, urls());
+        long perUrlNanos = open(perUrl, urls());
+
+        List<String> batchedLines = awaitLines(batchedLog, 1);
+        assertEquals(1, batchedLines.size(), "one process for all URLs");
+        assertEquals(String.join(" ", urls()), batchedLines.get(0));
+        assertEquals(URL_COUNT, awaitLines(perUrlLog, URL_COUNT).size(), "one process per URL");
+
+        System.out.println("Opening " + URL_COUNT + " URLs: batched " + TimeUnit.NANOSECONDS.toMicros(batchedNanos)
+            + " us, per URL " + TimeUnit.NANOSECONDS.toMicros(perUrlNanos) + " us");
+    }
+
+    private Path stubBrowser(String name, Path log) throws IOException {
+        assumeTrue(new File("/bin/sh").canExecute(), "needs a POSIX shell");
+        Path directory = Files.createDirectories(tempDir.resolve(name + "-" + log.getFileName()));
+        Path script = directory.resolve(name);
+        Files.writeString(script, "#!/bin/sh\necho \"$@\" >> '" + log + "'\n");
+        assertTrue(script.toFile().setExecutable(true));
+        return script;
+    }
+
+    private static List<String> urls() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < URL_COUNT; i++) {
+            urls.add("http://localhost:8080/page" + i);
+        }
+        return urls;
+    }
+
+    private static long open(LaunchStrategy strategy, List<String> urls) throws IOException {
+        long startNanos = System.nanoTime();
+        strategy.open(urls);
+        return System.nanoTime() - startNanos;
+    }
+
+    private static List<String> awaitLines(Path log, int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<String> lines = List.of();
+        while (System.nanoTime() - deadline < 0) {
+            lines = Files.exists(log) ? Files.readAllLines(log) : List.of();
+            if (lines.size() >= expected) {
+                // Give a stray extra process the chance to show up
+                Thread.sleep(200);
+                return Files.readAllLines(log);
+            }
+            Thread.sleep(20);
+        }
+        return lines;
+    }
+
+    private static final class StubStrategy extends CommandLaunchStrategy {
+
+        StubStrategy(List<String> command) {
+            super("stub", 0, command);
+        }
+
+        @Override
+        protected boolean supportsOs(String os) {
+            return true;
+        }
+    }
+}
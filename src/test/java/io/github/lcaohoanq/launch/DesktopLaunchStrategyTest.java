@@ -0,0 +1,114 @@
+package io.github.lcaohoanq.launch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.Desktop;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class DesktopLaunchStrategyTest {
+
+    private String originalMode;
+
+    @BeforeEach
+    void setUp() {
+        originalMode = System.getProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (originalMode != null) {
+            System.setProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY, originalMode);
+        } else {
+            System.clearProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY);
+        }
+    }
+
+    @Test
+    void isHeadless_shouldHonorHeadlessProperty() {
+        assertTrue(HeadlessCheck.isHeadless(
+            properties("true", "Windows 10"), environment(Map.of()), () -> false));
+    }
+
+    @Test
+    void isHeadless_shouldRequireDisplayOnUnix() {
+        assertTrue(HeadlessCheck.isHeadless(
+            properties(null, "Linux"), environment(Map.of()), () -> false));
+        assertFalse(HeadlessCheck.isHeadless(
+            properties(null, "Linux"), environment(Map.of("DISPLAY", ":0")), () -> false));
+        assertFalse(HeadlessCheck.isHeadless(
+            properties(null, "Linux"), environment(Map.of("WAYLAND_DISPLAY", "wayland-0")), () -> false));
+    }
+
+    @Test
+    void isHeadless_shouldTreatContainersAsHeadless() {
+        assertTrue(HeadlessCheck.isHeadless(
+            properties(null, "Linux"), environment(Map.of("DISPLAY", ":0")), () -> true));
+    }
+
+    @Test
+    void isHeadless_shouldAssumeDisplayOnWindowsAndMac() {
+        assertFalse(HeadlessCheck.isHeadless(
+            properties(null, "Windows 11"), environment(Map.of()), () -> true));
+        assertFalse(HeadlessCheck.isHeadless(
+            properties(null, "Mac OS X"), environment(Map.of()), () -> true));
+    }
+
+    @Test
+    void isAvailable_whenHeadless_shouldNotTouchAwt() {
+        // The test JVM runs with java.awt.headless=true
+        System.setProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY, "auto");
+        try (MockedStatic<Desktop> desktopMock = mockStatic(Desktop.class)) {
+            desktopMock.when(Desktop::isDesktopSupported).thenReturn(true);
+
+            assertFalse(new DesktopLaunchStrategy().isAvailable());
+
+            desktopMock.verify(Desktop::isDesktopSupported, never());
+        }
+    }
+
+    @Test
+    void isAvailable_whenNever_shouldNotTouchAwt() {
+        System.setProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY, "never");
+        try (MockedStatic<Desktop> desktopMock = mockStatic(Desktop.class)) {
+            assertFalse(new DesktopLaunchStrategy().isAvailable());
+
+            desktopMock.verify(Desktop::isDesktopSupported, never());
+        }
+    }
+
+    @Test
+    void isAvailable_whenAlways_shouldProbeAwt() {
+        System.setProperty(DesktopLaunchStrategy.DESKTOP_PROPERTY, "always");
+        try (MockedStatic<Desktop> desktopMock = mockStatic(Desktop.class)) {
+            Desktop desktop = mock(Desktop.class);
+            desktopMock.when(Desktop::isDesktopSupported).thenReturn(true);
+            desktopMock.when(Desktop::getDesktop).thenReturn(desktop);
+            when(desktop.isSupported(Desktop.Action.BROWSE)).thenReturn(true);
+
+            assertTrue(new DesktopLaunchStrategy().isAvailable());
+        }
+    }
+
+    private static UnaryOperator<String> properties(String headless, String os) {
+        return name -> {
+            switch (name) {
+                case "java.awt.headless":
+                    return headless;
+                case "os.name":
+                    return os;
+                default:
+                    return null;
+            }
+        };
+    }
+
+    private static UnaryOperator<String> environment(Map<String, String> variables) {
+        return variables::get;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.lcaohoanq.launch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExecutablesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        Executables.invalidate();
+    }
+
+    @Test
+    void resolve_shouldFindCommandOnPath() {
+        assumeTrue(new File("/bin/sh").canExecute(), "needs a POSIX shell");
+
+        String sh = Executables.resolve("sh");
+
+        assertNotNull(sh);
+        assertTrue(new File(sh).isAbsolute(), sh);
+        assertTrue(sh.endsWith(File.separator + "sh"), sh);
+        assertEquals(sh, Executables.resolve("sh"));
+    }
+
+    @Test
+    void resolve_shouldReturnNullForMissingCommand() {
+        assertNull(Executables.resolve("no-such-browser-binary"));
+        assertNull(Executables.resolve(tempDir.resolve("no-such-browser-binary").toString()));
+    }
+
+    @Test
+    void resolve_shouldResolveAgainOnceFileChanges() throws Exception {
+        Path browser = tempDir.resolve("browser");
+        Files.writeString(browser, "#!/bin/sh\n");
+        assumeTrue(browser.toFile().setExecutable(true));
+        assertTrue(browser.toFile().setLastModified(1_000_000_000_000L));
+
+        assertEquals(browser.toString(), Executables.resolve(browser.toString()));
+
+        assertTrue(browser.toFile().setExecutable(false));
+        assertTrue(browser.toFile().setLastModified(1_000_000_060_000L));
+        assumeTrue(!browser.toFile().canExecute(), "running as a user that can execute anything");
+        assertNull(Executables.resolve(browser.toString()));
+
+        Files.delete(browser);
+        assertNull(Executables.resolve(browser.toString()));
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.lcaohoanq.launch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LaunchStrategiesTest {
+
+    @BeforeEach
+    void setUp() {
+        LaunchStrategies.reprobe();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY);
+        LaunchStrategies.reprobe();
+    }
+
+    @Test
+    void load_shouldFindBuiltInStrategiesInPriorityOrder() {
+        List<String> names = LaunchStrategies.load().stream()
+            .map(LaunchStrategy::getName)
+            .collect(Collectors.toList());
+
+        assertEquals(List.of("custom command", "$BROWSER", "desktop", "rundll32", "open", "xdg-open", "gio",
+            "sensible-browser"), names);
+    }
+
+    @Test
+    void get_shouldKeepProbedStrategyUntilReprobe() {
+        assumeTrue(new File("/bin/sh").canExecute());
+        System.setProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY, "/bin/sh -c true");
+
+        LaunchStrategy probed = LaunchStrategies.get();
+        assertInstanceOf(CustomCommandLaunchStrategy.class, probed);
+
+        System.clearProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY);
+        assertSame(probed, LaunchStrategies.get());
+
+        LaunchStrategies.reprobe();
+        assertFalse(LaunchStrategies.get() instanceof CustomCommandLaunchStrategy);
+    }
+
+    @Test
+    void commandFor_shouldSubstituteOrAppendUrl() {
+        System.setProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY, "firefox --new-tab %s");
+        CustomCommandLaunchStrategy strategy = new CustomCommandLaunchStrategy();
+        assertEquals(List.of("firefox", "--new-tab", "https://example.com/a b"),
+            strategy.commandFor("https://example.com/a b"));
+
+        System.setProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY, "  firefox  ");
+        assertEquals(List.of("firefox", "https://example.com"), strategy.commandFor("https://example.com"));
+    }
+
+    @Test
+    void customCommand_shouldBeUnavailableWhenUnsetOrMissing() {
+        CustomCommandLaunchStrategy strategy = new CustomCommandLaunchStrategy();
+        assertFalse(strategy.isAvailable());
+
+        System.setProperty(CustomCommandLaunchStrategy.COMMAND_PROPERTY, "no-such-browser-binary %s");
+        assertFalse(strategy.isAvailable());
+    }
+}
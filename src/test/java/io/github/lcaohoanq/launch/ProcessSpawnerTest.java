@@ -0,0 +1,76 @@
+package io.github.lcaohoanq.launch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessSpawnerTest {
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(new File("/bin/sh").canExecute(), "needs a POSIX shell");
+    }
+
+    @Test
+    void spawn_shouldReapChildAndRecordExitCode() throws Exception {
+        ProcessSpawner spawner = new ProcessSpawner(4, Duration.ofSeconds(1));
+
+        CompletableFuture<Integer> exit = spawner.spawn(List.of("/bin/sh", "-c", "echo noise; echo more >&2; exit 3"));
+
+        assertEquals(3, exit.get(5, TimeUnit.SECONDS));
+        assertEquals(0, spawner.getRunningCount());
+        assertEquals(1, spawner.getSpawnCount());
+        assertEquals(1, spawner.getSpawnLatency().getCount());
+        assertEquals(Map.of(3, 1L), spawner.getExitCodes());
+    }
+
+    @Test
+    void spawn_shouldNotHoldSlotWhileChildRuns() throws Exception {
+        ProcessSpawner spawner = new ProcessSpawner(1, Duration.ofMillis(100));
+
+        CompletableFuture<Integer> first = spawner.spawn(List.of("/bin/sh", "-c", "sleep 1"));
+        CompletableFuture<Integer> second = spawner.spawn(List.of("/bin/sh", "-c", "sleep 1"));
+        assertEquals(2, spawner.getRunningCount());
+        assertEquals(0, spawner.getFailureCount());
+
+        assertEquals(0, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, spawner.getRunningCount());
+    }
+
+    @Test
+    void spawn_shouldReleaseSlotWhenCommandIsMissing() {
+        ProcessSpawner spawner = new ProcessSpawner(1, Duration.ofMillis(100));
+
+        assertThrows(IOException.class, () -> spawner.spawn(List.of("no-such-browser-binary")));
+        assertThrows(IOException.class, () -> spawner.spawn(List.of("no-such-browser-binary")));
+
+        assertEquals(0, spawner.getRunningCount());
+        assertEquals(2, spawner.getFailureCount());
+        assertEquals(0, spawner.getSpawnCount());
+    }
+
+    @Test
+    void capture_shouldReturnOutputOrNullOnTimeout() throws Exception {
+        ProcessSpawner spawner = new ProcessSpawner(1, Duration.ofMillis(100));
+
+        assertEquals("firefox.desktop",
+            spawner.capture(List.of("/bin/sh", "-c", "echo firefox.desktop; echo noise >&2"), Duration.ofSeconds(5)));
+        assertNull(spawner.capture(List.of("/bin/sh", "-c", "sleep 5"), Duration.ofMillis(100)));
+        assertNull(spawner.capture(List.of("/bin/sh", "-c", "echo partial; exit 1"), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ProcessSpawner(0, Duration.ofSeconds(1)));
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import io.github.lcaohoanq.annotations.BrowserLauncher;
 import io.github.lcaohoanq.core.JavaBrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategies;
 import java.awt.Desktop;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -24,6 +25,7 @@ class BrowserLauncherProcessorAdvancedTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        LaunchStrategies.reprobe();
         processor = new BrowserLauncherProcessor();
         
         originalOut = System.out;
@@ -0,0 +1,126 @@
+package io.github.lcaohoanq.processor;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.HealthGate;
+import io.github.lcaohoanq.launch.LaunchStrategies;
+import java.awt.Desktop;
+import java.net.URI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BrowserLauncherProcessorHealthCheckTest {
+
+    private WireMockServer wireMockServer;
+    private GenericApplicationContext context;
+    private MockedStatic<Desktop> desktopMock;
+    private Desktop desktop;
+
+    @SpringBootApplication
+    @BrowserLauncher(urls = {"http://localhost:8080", "http://localhost:8080/docs", "http://localhost:8080/admin"},
+        healthCheckEndpoint = "http://localhost:8092/health")
+    static class MultiUrlApplication {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher(urls = {"http://localhost:8080", "http://localhost:8080/docs"},
+        healthCheckEndpoints = {"http://localhost:8092/gateway", "http://localhost:8092/auth"},
+        healthGate = HealthGate.ANY)
+    static class GatedApplication {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher(urls = {"http://localhost:3000", "http://localhost:8080/docs"},
+        urlHealthCheckEndpoints = {"http://localhost:8092/frontend"},
+        healthCheckEndpoint = "http://localhost:8092/health")
+    static class PerUrlApplication {
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LaunchStrategies.reprobe();
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8092));
+        wireMockServer.start();
+
+        desktopMock = mockStatic(Desktop.class);
+        desktop = mock(Desktop.class);
+        desktopMock.when(Desktop::isDesktopSupported).thenReturn(true);
+        desktopMock.when(Desktop::getDesktop).thenReturn(desktop);
+        when(desktop.isSupported(Desktop.Action.BROWSE)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        desktopMock.close();
+        wireMockServer.stop();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private BrowserLauncherProcessor processorFor(Class<?> applicationClass) {
+        context = new GenericApplicationContext();
+        context.registerBean(applicationClass);
+        context.refresh();
+
+        // Launch on the calling thread, where the Desktop mock is registered
+        BrowserLauncherProcessor processor = new BrowserLauncherProcessor(Runnable::run);
+        ReflectionTestUtils.setField(processor, "applicationContext", context);
+        return processor;
+    }
+
+    @Test
+    void run_shouldProbeSharedEndpointOnceForAllUrls() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+
+        processorFor(MultiUrlApplication.class).run(mock(ApplicationArguments.class));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+        verify(desktop, times(3)).browse(any());
+    }
+
+    @Test
+    void run_shouldOpenNoUrlWhenSharedProbeFails() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+
+        processorFor(MultiUrlApplication.class).run(mock(ApplicationArguments.class));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void run_shouldGateOnAnyOfSeveralEndpoints() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/gateway")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/auth")).willReturn(aResponse().withStatus(200)));
+
+        processorFor(GatedApplication.class).run(mock(ApplicationArguments.class));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/auth")));
+        verify(desktop, times(2)).browse(any());
+    }
+
+    @Test
+    void run_shouldNotHoldBackUrlsOnAnotherUrlsEndpoint() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/frontend")).willReturn(aResponse().withStatus(503)));
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(200)));
+
+        processorFor(PerUrlApplication.class).run(mock(ApplicationArguments.class));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/frontend")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+        verify(desktop).browse(URI.create("http://localhost:8080/docs"));
+        verify(desktop, never()).browse(URI.create("http://localhost:3000"));
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.lcaohoanq.processor;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.LaunchTrigger;
+import io.github.lcaohoanq.annotations.ReadinessNode;
+import io.github.lcaohoanq.launch.LaunchStrategies;
+import java.awt.Desktop;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BrowserLauncherProcessorReadinessTest {
+
+    private GenericApplicationContext context;
+    private MockedStatic<Desktop> desktopMock;
+    private Desktop desktop;
+
+    @SpringBootApplication
+    @BrowserLauncher(value = "http://localhost:8080",
+        healthCheckEndpoint = "http://localhost:9/never-probed",
+        trigger = LaunchTrigger.READINESS)
+    static class ReadinessApplication {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher("http://localhost:8080")
+    static class RunnerApplication {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher(urls = {"http://localhost:8080", "http://localhost:3000"},
+        urlHealthCheckEndpoints = {"", "http://localhost:8098/frontend/health"},
+        readiness = @ReadinessNode(name = "db", endpoint = "http://localhost:8098/db/health",
+            urls = "http://localhost:8080/db-console"),
+        trigger = LaunchTrigger.READINESS)
+    static class ReadinessGraphApplication {
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LaunchStrategies.reprobe();
+        desktopMock = mockStatic(Desktop.class);
+        desktop = mock(Desktop.class);
+        desktopMock.when(Desktop::isDesktopSupported).thenReturn(true);
+        desktopMock.when(Desktop::getDesktop).thenReturn(desktop);
+        when(desktop.isSupported(Desktop.Action.BROWSE)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        desktopMock.close();
+        if (context != null) {
+            context.close();
+        }
+        System.clearProperty("spring.profiles.active");
+    }
+
+    private BrowserLauncherProcessor processorFor(Class<?> applicationClass) {
+        context = new GenericApplicationContext();
+        context.registerBean(applicationClass);
+        context.refresh();
+
+        // Launch on the calling thread, where the Desktop mock is registered
+        BrowserLauncherProcessor processor = new BrowserLauncherProcessor(Runnable::run);
+        ReflectionTestUtils.setField(processor, "applicationContext", context);
+        return processor;
+    }
+
+    private WebServerInitializedEvent webServerEvent(String namespace) {
+        WebServerApplicationContext serverContext = mock(WebServerApplicationContext.class);
+        when(serverContext.getServerNamespace()).thenReturn(namespace);
+        WebServerInitializedEvent event = mock(WebServerInitializedEvent.class);
+        when(event.getApplicationContext()).thenReturn(serverContext);
+        return event;
+    }
+
+    @Test
+    void readinessEvent_shouldOpenBrowserWithoutHealthCheck() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(desktop).browse(any());
+    }
+
+    @Test
+    void readinessEvent_shouldStillPollReadinessNodesAndPerUrlEndpoints() throws Exception {
+        WireMockServer dependencies = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8098));
+        dependencies.start();
+        try {
+            dependencies.stubFor(get(urlEqualTo("/db/health")).willReturn(aResponse().withStatus(503)));
+            dependencies.stubFor(get(urlEqualTo("/frontend/health")).willReturn(aResponse().withStatus(503)));
+            BrowserLauncherProcessor processor = processorFor(ReadinessGraphApplication.class);
+
+            processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+
+            // Only the URL without an endpoint of its own opens on the event
+            verify(desktop, times(1)).browse(any());
+            verify(desktop).browse(URI.create("http://localhost:8080"));
+            dependencies.verify(getRequestedFor(urlEqualTo("/db/health")));
+            dependencies.verify(getRequestedFor(urlEqualTo("/frontend/health")));
+        } finally {
+            dependencies.stop();
+        }
+    }
+
+    @Test
+    void webServerInitialized_shouldOpenBrowserOnlyOnce() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.onApplicationEvent(webServerEvent(null));
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(desktop, times(1)).browse(any());
+    }
+
+    @Test
+    void managementServer_shouldNotTriggerLaunch() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.onApplicationEvent(webServerEvent("management"));
+
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void refusingTraffic_shouldNotTriggerLaunch() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.REFUSING_TRAFFIC));
+
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void run_shouldNotLaunchReadinessPlan() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.run(mock(ApplicationArguments.class));
+
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void readinessEvent_shouldIgnoreRunnerPlan() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(RunnerApplication.class);
+
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+        verify(desktop, never()).browse(any());
+
+        processor.run(mock(ApplicationArguments.class));
+        verify(desktop).browse(any());
+    }
+
+    @Test
+    void readinessEvent_shouldRespectExcludedProfiles() throws Exception {
+        System.setProperty("spring.profiles.active", "test");
+        BrowserLauncherProcessor processor = processorFor(ReadinessApplication.class);
+
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void webServerInitialized_shouldOpenBrowserOnLaunchExecutor() throws Exception {
+        context = new GenericApplicationContext();
+        context.registerBean(ReadinessApplication.class);
+        context.refresh();
+        List<Runnable> launches = new ArrayList<>();
+        BrowserLauncherProcessor processor = new BrowserLauncherProcessor(launches::add);
+        ReflectionTestUtils.setField(processor, "applicationContext", context);
+
+        processor.onApplicationEvent(webServerEvent(null));
+        verify(desktop, never()).browse(any());
+
+        launches.forEach(Runnable::run);
+        verify(desktop).browse(URI.create("http://localhost:8080"));
+    }
+
+    @Test
+    void readinessEvent_shouldResolvePlanAgainOnceMainClassIsKnown() throws Exception {
+        BrowserLauncherProcessor processor = processorFor(RunnerApplication.class);
+
+        // Discovery alone finds the runner application
+        processor.onApplicationEvent(webServerEvent(null));
+        verify(desktop, never()).browse(any());
+
+        SpringApplication application = new SpringApplication(ReadinessApplication.class);
+        application.setMainApplicationClass(ReadinessApplication.class);
+        processor.onApplicationEvent(new ApplicationStartedEvent(application, new String[0], context, Duration.ZERO));
+        processor.onApplicationEvent(new AvailabilityChangeEvent<>(context, ReadinessState.ACCEPTING_TRAFFIC));
+
+        verify(desktop).browse(any());
+    }
+}
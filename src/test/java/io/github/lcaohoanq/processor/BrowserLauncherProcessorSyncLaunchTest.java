@@ -0,0 +1,140 @@
+package io.github.lcaohoanq.processor;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BrowserLauncherProcessorSyncLaunchTest {
+
+    private WireMockServer wireMockServer;
+    private GenericApplicationContext context;
+
+    // The endpoint stays unhealthy, so no browser is ever opened
+    @SpringBootApplication
+    @BrowserLauncher(url = "http://localhost:8080", healthCheckEndpoint = "http://localhost:8093/health",
+        excludeProfiles = {})
+    static class SlowHealthApplication {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher(url = "http://localhost:8080", healthCheckEndpoint = "http://localhost:8093/health",
+        excludeProfiles = {}, startupWaitSeconds = 1)
+    static class BoundedWaitApplication {
+    }
+
+    // Own endpoint, so no latency learnt by other tests shortens its request timeout
+    @SpringBootApplication
+    @BrowserLauncher(url = "http://localhost:8080", healthCheckEndpoint = "http://localhost:8093/hung",
+        excludeProfiles = {}, startupWaitSeconds = 1)
+    static class HungHealthApplication {
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8093));
+        wireMockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        wireMockServer.stop();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private BrowserLauncherProcessor processorFor(Class<?> applicationClass, Executor executor) {
+        context = new GenericApplicationContext();
+        context.registerBean(applicationClass);
+        context.refresh();
+
+        BrowserLauncherProcessor processor = executor == null
+            ? new BrowserLauncherProcessor()
+            : new BrowserLauncherProcessor(executor);
+        ReflectionTestUtils.setField(processor, "applicationContext", context);
+        return processor;
+    }
+
+    @Test
+    void run_shouldReturnBeforeSlowHealthCheckCompletes() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health"))
+            .willReturn(aResponse().withStatus(503).withFixedDelay(2000)));
+
+        BrowserLauncherProcessor processor = processorFor(SlowHealthApplication.class, null);
+        ApplicationArguments args = mock(ApplicationArguments.class);
+        long start = System.nanoTime();
+        processor.run(args);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1000, "run() blocked for " + elapsedMillis + " ms");
+        // The probe still goes out in the background
+        Thread.sleep(300);
+        assertEquals(1, wireMockServer.findAll(getRequestedFor(urlEqualTo("/health"))).size());
+    }
+
+    @Test
+    void run_shouldWaitNoLongerThanStartupWait() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/hung"))
+            .willReturn(aResponse().withStatus(503).withFixedDelay(3000)));
+
+        BrowserLauncherProcessor processor = processorFor(HungHealthApplication.class, null);
+        ApplicationArguments args = mock(ApplicationArguments.class);
+        long start = System.nanoTime();
+        processor.run(args);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 900 && elapsedMillis < 2500, "run() waited " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void run_shouldReturnAsSoonAsLaunchFinishesWithinStartupWait() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+
+        BrowserLauncherProcessor processor = processorFor(BoundedWaitApplication.class, null);
+        ApplicationArguments args = mock(ApplicationArguments.class);
+        long start = System.nanoTime();
+        processor.run(args);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 900, "run() waited " + elapsedMillis + " ms");
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/health")));
+    }
+
+    @Test
+    void run_shouldHandLaunchToExecutorOnLowPriorityThread() throws Exception {
+        wireMockServer.stubFor(get(urlEqualTo("/health")).willReturn(aResponse().withStatus(503)));
+        List<Runnable> submitted = Collections.synchronizedList(new ArrayList<>());
+
+        processorFor(SlowHealthApplication.class, submitted::add).run(mock(ApplicationArguments.class));
+
+        assertEquals(1, submitted.size());
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/health")));
+
+        CountDownLatch ran = new CountDownLatch(1);
+        int[] priority = new int[1];
+        Executor defaultExecutor = (Executor) ReflectionTestUtils.getField(new BrowserLauncherProcessor(), "launchExecutor");
+        defaultExecutor.execute(() -> {
+            priority[0] = Thread.currentThread().getPriority();
+            ran.countDown();
+        });
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertEquals(Thread.MIN_PRIORITY, priority[0]);
+    }
+}
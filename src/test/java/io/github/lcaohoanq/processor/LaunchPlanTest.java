@@ -0,0 +1,322 @@
+package io.github.lcaohoanq.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.annotations.HealthGate;
+import io.github.lcaohoanq.annotations.ReadinessNode;
+import io.github.lcaohoanq.health.ReadinessGraph;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LaunchPlanTest {
+
+    @TempDir
+    Path classpathRoot;
+
+    @BrowserLauncher(url = "http://localhost:8080", urls = {"http://ignored"}, excludeProfiles = {"prod"})
+    static class UrlAnnotated {
+    }
+
+    @BrowserLauncher(url = "http://localhost:8080", healthCheckEndpoint = "http://localhost:8080/health",
+        healthCheckEndpoints = {"http://localhost:9000/health", "http://localhost:8080/health", "http://localhost:9001/health"},
+        healthGate = HealthGate.QUORUM, healthCheckQuorum = 2)
+    static class GatedAnnotated {
+    }
+
+    @SpringBootApplication
+    @BrowserLauncher("http://localhost:8080/app")
+    static class BootAnnotated {
+    }
+
+    @BrowserLauncher(url = "http://localhost:8080",
+        healthCheckEndpoints = {"http://localhost:9000/health", "http://localhost:8080/health", "http://localhost:9001/health"},
+        healthGate = HealthGate.QUORUM)
+    static class MajorityAnnotated {
+    }
+
+    @BrowserLauncher(urls = {"http://localhost:8080", "http://localhost:8080/ü"},
+        healthCheckEndpoint = "http://localhost:8080/health", healthCheckDeadlineSeconds = 30, async = true)
+    static class UrlsAnnotated {
+    }
+
+    @BrowserLauncher(url = "http://localhost:8080", readiness = {
+        @ReadinessNode(name = "db", endpoint = "http://localhost:5433/health"),
+        @ReadinessNode(name = "api", endpoint = "http://localhost:8080/health", dependsOn = "db",
+            urls = {"http://localhost:8080/admin", "http://localhost:8080/docs"})})
+    static class GraphAnnotated {
+    }
+
+    @BrowserLauncher(urls = {"http://localhost:3000", "http://localhost:8080/swagger-ui", "http://localhost:8080"},
+        urlHealthCheckEndpoints = {"http://localhost:3000/health", "", "http://localhost:8080/actuator/health"},
+        healthCheckEndpoint = "http://localhost:9000/health")
+    static class PerUrlAnnotated {
+    }
+
+    @BrowserLauncher(urls = {"http://localhost:3000", "http://localhost:8080", "http://localhost:3000"},
+        urlHealthCheckEndpoints = {"", "", "http://localhost:3000/health"})
+    static class DuplicateUrlAnnotated {
+    }
+
+    @Test
+    void fromAnnotation_shouldPreferUrlOverUrls() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", UrlAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertEquals(List.of("http://localhost:8080"), plan.getUrls());
+        assertEquals("", plan.getHealthCheckEndpoint());
+        assertFalse(plan.getRetryPolicy().isRetrying());
+        assertFalse(plan.isAsync());
+    }
+
+    @Test
+    void fromAnnotation_shouldMergeHealthCheckEndpointsWithoutDuplicates() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", GatedAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertEquals(List.of("http://localhost:8080/health", "http://localhost:9000/health",
+            "http://localhost:9001/health"), plan.getHealthCheckEndpoints());
+        assertEquals(2, plan.getRequiredHealthyCount());
+    }
+
+    @Test
+    void toDescriptor_shouldRoundTripHealthGate() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", GatedAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(plan.toDescriptor()));
+        LaunchPlan loaded = LaunchPlan.fromProperties(properties);
+
+        assertEquals(plan.getHealthCheckEndpoints(), loaded.getHealthCheckEndpoints());
+        assertEquals(HealthGate.QUORUM, loaded.getHealthGate());
+        assertEquals(2, loaded.getRequiredHealthyCount());
+    }
+
+    @Test
+    void fromAnnotation_shouldTreatDefaultQuorumAsMajority() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App",
+            MajorityAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertEquals(0, plan.getHealthCheckQuorum());
+        assertEquals(2, plan.getRequiredHealthyCount());
+    }
+
+    @Test
+    void fromProperties_shouldRejectQuorumLargerThanEndpointCount() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("main-class", "demo.App");
+        properties.setProperty("url.0", "http://localhost:8080");
+        properties.setProperty("health-check-endpoint.0", "http://localhost:8080/health");
+        properties.setProperty("health-check-endpoint.1", "http://localhost:9000/health");
+        properties.setProperty("health-gate", "QUORUM");
+        properties.setProperty("health-check-quorum", "3");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> LaunchPlan.fromProperties(properties));
+        assertTrue(e.getMessage().contains("healthCheckQuorum"), e.getMessage());
+    }
+
+    @Test
+    void fromProperties_shouldReadSingleEndpointKey() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("main-class", "demo.App");
+        properties.setProperty("url.0", "http://localhost:8080");
+        properties.setProperty("health-check-endpoint", "http://localhost:8080/health");
+
+        LaunchPlan loaded = LaunchPlan.fromProperties(properties);
+
+        assertEquals(List.of("http://localhost:8080/health"), loaded.getHealthCheckEndpoints());
+        assertEquals(1, loaded.getRequiredHealthyCount());
+    }
+
+    @Test
+    void toDescriptor_shouldRoundTripReadinessGraph() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", GraphAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(plan.toDescriptor()));
+        LaunchPlan restored = LaunchPlan.fromProperties(properties);
+
+        assertEquals(2, restored.getReadinessNodes().size());
+        ReadinessGraph.Node api = restored.getReadinessNodes().get(1);
+        assertEquals("api", api.getName());
+        assertEquals("http://localhost:8080/health", api.getEndpoint());
+        assertEquals(List.of("db"), api.getDependsOn());
+        assertEquals(List.of("http://localhost:8080/admin", "http://localhost:8080/docs"), api.getUrls());
+        assertEquals(List.of(), restored.getReadinessNodes().get(0).getDependsOn());
+        assertEquals(List.of("http://localhost:8080/admin", "http://localhost:8080/docs"), restored.getReadinessUrls());
+    }
+
+    @Test
+    void fromAnnotation_shouldGiveUrlsWithOwnEndpointTheirOwnNode() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", PerUrlAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertEquals(3, plan.getUrls().size());
+        assertEquals(List.of("http://localhost:3000", "http://localhost:8080"), plan.getReadinessUrls());
+        ReadinessGraph.Node frontend = plan.getReadinessNodes().get(0);
+        assertEquals(LaunchPlan.URL_NODE_PREFIX + "http://localhost:3000", frontend.getName());
+        assertEquals("http://localhost:3000/health", frontend.getEndpoint());
+        assertEquals(List.of(), frontend.getDependsOn());
+        assertEquals(List.of("http://localhost:9000/health"), plan.getHealthCheckEndpoints());
+    }
+
+    @Test
+    void fromAnnotation_shouldOpenDuplicateUrlOnce() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App",
+            DuplicateUrlAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertEquals(List.of("http://localhost:3000", "http://localhost:8080"), plan.getUrls());
+        assertEquals(1, plan.getReadinessNodes().size());
+        assertEquals("http://localhost:3000/health", plan.getReadinessNodes().get(0).getEndpoint());
+        assertDoesNotThrow(() -> new ReadinessGraph(plan.getReadinessNodes()));
+    }
+
+    @Test
+    void withReadinessNodes_shouldMergeNodesFromProperties() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", GraphAnnotated.class.getAnnotation(BrowserLauncher.class));
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("browser-launcher.readiness.db.endpoint", "http://db-host:5433/health")
+            .withProperty("browser-launcher.readiness.cache.endpoint", "http://localhost:6380/health")
+            .withProperty("browser-launcher.readiness.cache.depends-on", "db")
+            .withProperty("browser-launcher.readiness.cache.urls", "http://localhost:8080/cache,http://localhost:8080/stats");
+
+        LaunchPlan merged = plan.withReadinessNodes(ReadinessProperties.bind(environment));
+
+        assertEquals(3, merged.getReadinessNodes().size());
+        assertEquals("http://db-host:5433/health", merged.getReadinessNodes().get(0).getEndpoint());
+        ReadinessGraph.Node cache = merged.getReadinessNodes().get(2);
+        assertEquals("cache", cache.getName());
+        assertEquals(List.of("db"), cache.getDependsOn());
+        assertEquals(List.of("http://localhost:8080/cache", "http://localhost:8080/stats"), cache.getUrls());
+    }
+
+    @Test
+    void readinessProperties_shouldTrimCommaSeparatedValues() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("browser-launcher.readiness.api.endpoint", "http://localhost:8080/health")
+            .withProperty("browser-launcher.readiness.api.depends-on", "db, cache,,")
+            .withProperty("browser-launcher.readiness.api.urls", "http://localhost:8080, http://localhost:8080/docs");
+
+        ReadinessGraph.Node api = ReadinessProperties.bind(environment).get(0);
+
+        assertEquals(List.of("db", "cache"), api.getDependsOn());
+        assertEquals(List.of("http://localhost:8080", "http://localhost:8080/docs"), api.getUrls());
+    }
+
+    @Test
+    void isExcluded_shouldMatchActiveProfiles() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", UrlAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertTrue(plan.isExcluded(List.of("dev", "prod")));
+        assertFalse(plan.isExcluded(List.of("dev")));
+    }
+
+    @Test
+    void toDescriptor_shouldRoundTrip() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", UrlsAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(plan.toDescriptor()));
+        LaunchPlan loaded = LaunchPlan.fromProperties(properties);
+
+        assertEquals(plan.getMainClassName(), loaded.getMainClassName());
+        assertEquals(plan.getUrls(), loaded.getUrls());
+        assertEquals(plan.getHealthCheckEndpoint(), loaded.getHealthCheckEndpoint());
+        assertEquals(plan.getExcludeProfiles(), loaded.getExcludeProfiles());
+        assertEquals(30, loaded.getHealthCheckDeadlineSeconds());
+        assertTrue(loaded.isAsync());
+    }
+
+    @Test
+    void toDescriptor_shouldBeReproducible() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", UrlsAnnotated.class.getAnnotation(BrowserLauncher.class));
+
+        assertFalse(plan.toDescriptor().contains("#"), "Descriptor must not carry a timestamp comment");
+        assertEquals(plan.toDescriptor(), plan.toDescriptor());
+    }
+
+    @Test
+    void loadDescriptor_shouldReturnNullWhenAbsent() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, null)) {
+            assertNull(LaunchPlan.loadDescriptor(loader));
+        }
+    }
+
+    @Test
+    void resolveLaunchPlan_shouldPreferDescriptorOverDiscovery() throws Exception {
+        LaunchPlan plan = LaunchPlan.fromAnnotation("demo.App", UrlsAnnotated.class.getAnnotation(BrowserLauncher.class));
+        Path descriptor = classpathRoot.resolve(LaunchPlan.DESCRIPTOR_LOCATION);
+        Files.createDirectories(descriptor.getParent());
+        Files.write(descriptor, plan.toDescriptorBytes());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, null)) {
+            ApplicationContext context = mock(ApplicationContext.class);
+            when(context.getClassLoader()).thenReturn(loader);
+
+            BrowserLauncherProcessor processor = new BrowserLauncherProcessor();
+            ReflectionTestUtils.setField(processor, "applicationContext", context);
+
+            LaunchPlan resolved = processor.resolveLaunchPlan();
+
+            assertEquals("demo.App", resolved.getMainClassName());
+            assertEquals(plan.getUrls(), resolved.getUrls());
+            // The descriptor short-circuits discovery, so no bean lookups happen
+            verify(context, never()).getBeanDefinitionNames();
+        }
+    }
+
+    @Test
+    void loadDescriptor_shouldPickDescriptorOfMainClass() throws Exception {
+        Path dependency = classpathRoot.resolve("dependency");
+        Path application = classpathRoot.resolve("application");
+        writeDescriptor(dependency, LaunchPlan.fromAnnotation("lib.Demo",
+            UrlAnnotated.class.getAnnotation(BrowserLauncher.class)));
+        writeDescriptor(application, LaunchPlan.fromAnnotation("demo.App",
+            UrlsAnnotated.class.getAnnotation(BrowserLauncher.class)));
+
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[]{dependency.toUri().toURL(), application.toUri().toURL()}, null)) {
+            assertEquals("demo.App", LaunchPlan.loadDescriptor(loader, "demo.App").getMainClassName());
+            assertNull(LaunchPlan.loadDescriptor(loader, "other.App"));
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> LaunchPlan.loadDescriptor(loader));
+            assertTrue(e.getMessage().contains("2 launch descriptors"), e.getMessage());
+        }
+    }
+
+    @Test
+    void resolveLaunchPlan_shouldIgnoreDescriptorOfAnotherClass() throws Exception {
+        writeDescriptor(classpathRoot, LaunchPlan.fromAnnotation("lib.Demo",
+            UrlsAnnotated.class.getAnnotation(BrowserLauncher.class)));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, null)) {
+            ApplicationContext context = mock(ApplicationContext.class);
+            when(context.getClassLoader()).thenReturn(loader);
+
+            BrowserLauncherProcessor processor = new BrowserLauncherProcessor();
+            ReflectionTestUtils.setField(processor, "applicationContext", context);
+            ReflectionTestUtils.setField(processor, "mainApplicationClass", BootAnnotated.class);
+
+            LaunchPlan resolved = processor.resolveLaunchPlan();
+
+            assertEquals(BootAnnotated.class.getName(), resolved.getMainClassName());
+            assertEquals(List.of("http://localhost:8080/app"), resolved.getUrls());
+        }
+    }
+
+    private static void writeDescriptor(Path root, LaunchPlan plan) throws Exception {
+        Path descriptor = root.resolve(LaunchPlan.DESCRIPTOR_LOCATION);
+        Files.createDirectories(descriptor.getParent());
+        Files.write(descriptor, plan.toDescriptorBytes());
+    }
+}
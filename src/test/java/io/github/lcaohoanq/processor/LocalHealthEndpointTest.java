@@ -0,0 +1,132 @@
+package io.github.lcaohoanq.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import io.github.lcaohoanq.launch.LaunchStrategies;
+import java.awt.Desktop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LocalHealthEndpointTest {
+
+    private GenericApplicationContext context;
+    private MockedStatic<Desktop> desktopMock;
+    private Desktop desktop;
+
+    // Nothing listens on 8094, so any HTTP attempt would fail the check
+    @SpringBootApplication
+    @BrowserLauncher(url = "http://localhost:8094", healthCheckEndpoint = "http://localhost:8094/actuator/health",
+        excludeProfiles = {})
+    static class SelfCheckingApplication {
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LaunchStrategies.reprobe();
+        desktopMock = mockStatic(Desktop.class);
+        desktop = mock(Desktop.class);
+        desktopMock.when(Desktop::isDesktopSupported).thenReturn(true);
+        desktopMock.when(Desktop::getDesktop).thenReturn(desktop);
+        when(desktop.isSupported(Desktop.Action.BROWSE)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        desktopMock.close();
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private BrowserLauncherProcessor processorWith(HealthEndpoint healthEndpoint) {
+        context = new GenericApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty("local.server.port", "8094"));
+        context.registerBean(SelfCheckingApplication.class);
+        context.registerBean(HealthEndpoint.class, () -> healthEndpoint);
+        context.refresh();
+
+        // Launch on the calling thread, where the Desktop mock is registered
+        BrowserLauncherProcessor processor = new BrowserLauncherProcessor(Runnable::run);
+        ReflectionTestUtils.setField(processor, "applicationContext", context);
+        return processor;
+    }
+
+    @Test
+    void run_shouldEvaluateSelfEndpointInProcess() throws Exception {
+        HealthEndpoint healthEndpoint = mock(HealthEndpoint.class);
+        when(healthEndpoint.health()).thenReturn(Health.up().build());
+
+        processorWith(healthEndpoint).run(mock(ApplicationArguments.class));
+
+        verify(healthEndpoint).health();
+        verify(desktop).browse(any());
+    }
+
+    @Test
+    void run_shouldNotOpenWhenInProcessHealthIsDown() throws Exception {
+        HealthEndpoint healthEndpoint = mock(HealthEndpoint.class);
+        when(healthEndpoint.health()).thenReturn(Health.down().build());
+
+        processorWith(healthEndpoint).run(mock(ApplicationArguments.class));
+
+        verify(desktop, never()).browse(any());
+    }
+
+    @Test
+    void healthPathFor_shouldMatchServerPortAndDefaultBasePath() {
+        MockEnvironment environment = new MockEnvironment().withProperty("local.server.port", "8080");
+
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/actuator/health"));
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://127.0.0.1:8080/actuator/health/"));
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://[::1]:8080/actuator/health"));
+        assertEquals("readiness",
+            LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/actuator/health/readiness"));
+    }
+
+    @Test
+    void healthPathFor_shouldHonourContextPathAndCustomMappings() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("local.server.port", "8080")
+            .withProperty("server.servlet.context-path", "/app")
+            .withProperty("management.endpoints.web.base-path", "/manage")
+            .withProperty("management.endpoints.web.path-mapping.health", "status");
+
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/app/manage/status"));
+        assertNull(LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/actuator/health"));
+    }
+
+    @Test
+    void healthPathFor_shouldMatchSeparateManagementPort() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("local.server.port", "8080")
+            .withProperty("local.management.port", "9090")
+            .withProperty("server.servlet.context-path", "/app")
+            .withProperty("management.server.base-path", "/ops");
+
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://localhost:9090/ops/actuator/health"));
+        assertEquals("", LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/app/actuator/health"));
+    }
+
+    @Test
+    void healthPathFor_shouldRejectRemoteEndpoints() {
+        MockEnvironment environment = new MockEnvironment().withProperty("local.server.port", "8080");
+
+        assertNull(LocalHealthEndpoint.healthPathFor(environment, "http://gateway:8080/actuator/health"));
+        assertNull(LocalHealthEndpoint.healthPathFor(environment, "http://10.1.2.3:8080/actuator/health"));
+        assertNull(LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8081/actuator/health"));
+        assertNull(LocalHealthEndpoint.healthPathFor(environment, "http://localhost:8080/health"));
+        assertNull(LocalHealthEndpoint.healthPathFor(new MockEnvironment(), "http://localhost:8080/actuator/health"));
+    }
+}
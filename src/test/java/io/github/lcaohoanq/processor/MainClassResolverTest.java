@@ -0,0 +1,141 @@
+package io.github.lcaohoanq.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.lcaohoanq.annotations.BrowserLauncher;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.util.ClassUtils;
+
+class MainClassResolverTest {
+
+    private static final int LAZY_BEAN_COUNT = 2000;
+
+    private GenericApplicationContext context;
+    private AtomicInteger instantiations;
+
+    @SpringBootApplication
+    @BrowserLauncher("http://localhost:8080")
+    static class AnnotatedApplication {
+    }
+
+    static class PlainMain {
+    }
+
+    // Its object type is only known once it exists, so a type lookup would create it
+    static class OpaqueFactoryBean implements FactoryBean<Object> {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        OpaqueFactoryBean() {
+            CREATED.incrementAndGet();
+        }
+
+        @Override
+        public Object getObject() {
+            return new Object();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return null;
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        instantiations = new AtomicInteger();
+        context = new GenericApplicationContext();
+        for (int i = 0; i < LAZY_BEAN_COUNT; i++) {
+            // Each lazy bean holds a small buffer to stand in for real infrastructure
+            context.registerBean("lazyBean" + i, byte[].class, () -> {
+                instantiations.incrementAndGet();
+                return new byte[16 * 1024];
+            }, bd -> bd.setLazyInit(true));
+        }
+        // Registered last so the legacy scan has to walk every lazy bean first
+        context.registerBean(AnnotatedApplication.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Test
+    void resolve_shouldPreferAnnotatedMainApplicationClass() throws Exception {
+        MainClassResolver resolver = new MainClassResolver(null, AnnotatedApplication.class);
+
+        assertEquals(AnnotatedApplication.class, resolver.resolve());
+    }
+
+    @Test
+    void resolve_shouldIgnoreUnannotatedMainApplicationClass() throws Exception {
+        MainClassResolver resolver = new MainClassResolver(context, PlainMain.class);
+
+        assertEquals(AnnotatedApplication.class, resolver.resolve());
+    }
+
+    @Test
+    void resolve_shouldNotInstantiateLazyBeans() throws Exception {
+        MainClassResolver resolver = new MainClassResolver(context, null);
+
+        assertEquals(AnnotatedApplication.class, resolver.resolve());
+        assertEquals(0, instantiations.get(), "Lazy beans must not be created during discovery");
+    }
+
+    @Test
+    void resolve_shouldNotInitializeFactoryBeans() throws Exception {
+        try (GenericApplicationContext factoryContext = new GenericApplicationContext()) {
+            factoryContext.registerBean("opaque", OpaqueFactoryBean.class, bd -> bd.setLazyInit(true));
+            factoryContext.registerBean(AnnotatedApplication.class);
+            factoryContext.refresh();
+            OpaqueFactoryBean.CREATED.set(0);
+
+            assertEquals(AnnotatedApplication.class, new MainClassResolver(factoryContext, null).resolve());
+            assertEquals(0, OpaqueFactoryBean.CREATED.get(), "FactoryBeans must not be initialized during discovery");
+        }
+    }
+
+    @Test
+    void resolve_shouldHandleNullContext() throws Exception {
+        MainClassResolver resolver = new MainClassResolver(null, null);
+
+        // Falls through to the stack walk; the test runner has no main frame
+        assertDoesNotThrow(resolver::resolve);
+    }
+
+    @Test
+    void resolve_shouldReportCostAgainstBeanScan() throws Exception {
+        long startTime = System.nanoTime();
+        Class<?> resolved = new MainClassResolver(context, null).resolve();
+        long metadataNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        Class<?> scanned = legacyBeanScan();
+        long scanNanos = System.nanoTime() - startTime;
+
+        System.err.printf("Main class discovery over %d lazy beans: metadata=%.2fms, bean scan=%.2fms%n",
+            LAZY_BEAN_COUNT, metadataNanos / 1e6, scanNanos / 1e6);
+
+        assertEquals(scanned, resolved);
+        assertEquals(LAZY_BEAN_COUNT, instantiations.get(), "The legacy scan creates every lazy bean");
+    }
+
+    // The discovery loop BrowserLauncherProcessor used before MainClassResolver
+    private Class<?> legacyBeanScan() {
+        for (String beanName : context.getBeanNamesForType(Object.class)) {
+            Class<?> beanClass = ClassUtils.getUserClass(context.getBean(beanName).getClass());
+            if (beanClass.getAnnotation(SpringBootApplication.class) != null) {
+                return beanClass;
+            }
+        }
+        return null;
+    }
+}